@@ -0,0 +1,58 @@
+package ro.unibuc.hello.data.entity;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.text.DecimalFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ro.unibuc.hello.utils.BenchmarkUtils.buildGames;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameEntityBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int cartSize;
+
+    private List<GameEntity> games;
+
+    private GameEntity game;
+
+    @Setup
+    public void setUp() {
+        games = buildGames(cartSize);
+        game = games.get(cartSize / 2);
+    }
+
+    // The pricing before it moved to cents, kept as the baseline
+    private static double legacyDiscountedPrice(GameEntity game) {
+        double price = game.getPrice();
+        return Double.parseDouble(new DecimalFormat("#.##").format(price - price * game.getDiscountPercentage() / 100));
+    }
+
+    @Benchmark
+    public double discountedPrice() {
+        return game.discountedPrice();
+    }
+
+    @Benchmark
+    public double totalPrice() {
+        return GameEntity.totalPrice(games);
+    }
+
+    @Benchmark
+    public double discountedPrice_Legacy() {
+        return legacyDiscountedPrice(game);
+    }
+
+    @Benchmark
+    public double totalPrice_Legacy() {
+        return games
+                .stream()
+                .mapToDouble(GameEntityBenchmark::legacyDiscountedPrice)
+                .sum();
+    }
+
+}
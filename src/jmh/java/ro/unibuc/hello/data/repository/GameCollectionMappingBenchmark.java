@@ -0,0 +1,55 @@
+package ro.unibuc.hello.data.repository;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import ro.unibuc.hello.data.entity.GameEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ro.unibuc.hello.utils.BenchmarkUtils.buildGames;
+
+// The in-JVM half of getGamesByCustomer: mapping the documents the aggregation returns into entities
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameCollectionMappingBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int librarySize;
+
+    private MappingMongoConverter converter;
+
+    private List<Document> documents;
+
+    @Setup
+    public void setUp() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.afterPropertiesSet();
+
+        documents = buildGames(librarySize)
+                .stream()
+                .map(game -> {
+                    game.setDeveloper(null);
+                    game.setDlcs(null);
+                    Document document = new Document();
+                    converter.write(game, document);
+                    return document;
+                })
+                .toList();
+    }
+
+    @Benchmark
+    public List<GameEntity> getGamesByCustomer() {
+        return documents
+                .stream()
+                .map(document -> converter.read(GameEntity.class, document))
+                .toList();
+    }
+
+}
@@ -0,0 +1,51 @@
+package ro.unibuc.hello.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ro.unibuc.hello.data.entity.GameEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ro.unibuc.hello.data.entity.GameEntity.totalPrice;
+import static ro.unibuc.hello.utils.BenchmarkUtils.buildGames;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Cart {
+
+        @Param({"1", "10", "100"})
+        private int cartSize;
+
+        private CartInfo cartInfo;
+
+        @Setup
+        public void setUp() {
+            List<GameEntity> games = buildGames(cartSize);
+            cartInfo = new CartInfo(totalPrice(games), games);
+        }
+
+    }
+
+    // Configured like the mapper Spring Boot hands to the message converters
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final GameEntity game = buildGames(1).get(0);
+
+    @Benchmark
+    public String serializeGame() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(game);
+    }
+
+    @Benchmark
+    public String serializeCart(Cart cart) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(cart.cartInfo);
+    }
+
+}
@@ -0,0 +1,44 @@
+package ro.unibuc.hello.security.jwt;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTServiceBenchmark {
+
+    private static final String SECRET_KEY = "8a05a7ec81fd773513f88bb33b0ea42b436902d88fc4d9b0dec15d402dfad4c3";
+
+    private final String userId = "67c9f02a5582625f6c6639cust0";
+
+    private JWTService jwtService;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JWTService(SECRET_KEY, 10_000, Duration.ofMinutes(5));
+        token = jwtService.getToken(userId);
+    }
+
+    @Benchmark
+    public String getToken() {
+        return jwtService.getToken(userId);
+    }
+
+    @Benchmark
+    public String extractUserId_Cached() {
+        return jwtService.extractUserId(token);
+    }
+
+    // Every request presents a token the cache has not verified yet
+    @Benchmark
+    public String extractUserId_Uncached() {
+        jwtService.getVerifiedTokens().invalidateAll();
+        return jwtService.extractUserId(token);
+    }
+
+}
@@ -0,0 +1,46 @@
+package ro.unibuc.hello.service;
+
+import org.openjdk.jmh.annotations.*;
+import ro.unibuc.hello.data.repository.UserRepository;
+import ro.unibuc.hello.dto.Customer;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+// The validation a customer signup goes through, with a repository that never finds a duplicate.
+// Run with -PjmhProfilers=gc: gc.alloc.rate.norm stays flat because no patterns or rules are built per call
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SignupValidationBenchmark {
+
+    private CustomerService customerService;
+
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        customerService = new CustomerService();
+        customerService.userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> method.getName().equals("hashCode") ? 0 : null
+        );
+
+        customer = Customer
+                .builder()
+                .username("BenchmarkCustomer")
+                .password("BenchmarkCustomer1234")
+                .email("benchmark@gmail.com")
+                .firstName("Benchmark")
+                .lastName("Customer")
+                .build();
+    }
+
+    @Benchmark
+    public Customer validateUser() {
+        customerService.validateUser(customer);
+        return customer;
+    }
+
+}
@@ -0,0 +1,46 @@
+package ro.unibuc.hello.utils;
+
+import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.data.entity.UserEntity;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static ro.unibuc.hello.data.entity.UserEntity.Role;
+import static ro.unibuc.hello.data.entity.UserEntity.UserDetails;
+
+public final class BenchmarkUtils {
+
+    private BenchmarkUtils() {}
+
+    public static UserEntity buildDeveloper() {
+        return new UserEntity(
+                "benchmark-developer",
+                "BenchmarkDeveloper",
+                "BenchmarkDeveloper1234",
+                "contact@benchmark.com",
+                Role.DEVELOPER,
+                UserDetails.forDeveloper("Benchmark Studio", "https://benchmark.com")
+        );
+    }
+
+    // Prices and discounts vary so the pricing code doesn't see the same operands every time
+    public static List<GameEntity> buildGames(int total) {
+        UserEntity developer = buildDeveloper();
+        return IntStream
+                .range(0, total)
+                .mapToObj(i -> {
+                    GameEntity game = GameEntity.buildGame(
+                            String.format("Benchmark Game %d", i),
+                            9.99 + i % 50,
+                            i % 4 * 25,
+                            100,
+                            developer
+                    );
+                    game.setId(String.format("benchmark-game-%d", i));
+                    return game;
+                })
+                .toList();
+    }
+
+}
@@ -0,0 +1,37 @@
+package ro.unibuc.hello.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationUtilsBenchmark {
+
+    private String username = "BenchmarkCustomer";
+    private String password = "BenchmarkCustomer1234";
+    private String email = "benchmark@gmail.com";
+    private String website = "https://benchmark.com";
+
+    @Benchmark
+    public String validPassword() {
+        return ValidationUtils.validPassword().validate(password);
+    }
+
+    @Benchmark
+    public String validEmail() {
+        return ValidationUtils.validEmail().validate(email);
+    }
+
+    @Benchmark
+    public String validWebsite() {
+        return ValidationUtils.validWebsite().validate(website);
+    }
+
+    @Benchmark
+    public String validLength() {
+        return ValidationUtils.validLength(5).validate(username);
+    }
+
+}
@@ -0,0 +1,26 @@
+package ro.unibuc.hello.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import static ro.unibuc.hello.config.PublicReadMongoTemplate.isPublicRead;
+import static ro.unibuc.hello.config.PublicReadMongoTemplate.setPublicRead;
+
+@Aspect
+@Component
+public class PublicReadAspect {
+
+    @Around("@annotation(ro.unibuc.hello.annotation.PublicRead)")
+    public Object publicRead(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean outer = isPublicRead();
+        setPublicRead(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            setPublicRead(outer);
+        }
+    }
+
+}
@@ -2,25 +2,32 @@ package ro.unibuc.hello.config;
 
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import ro.unibuc.hello.data.entity.GameEntity;
-import ro.unibuc.hello.data.entity.LibraryEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
 import ro.unibuc.hello.data.repository.*;
+import ro.unibuc.hello.security.PasswordHasher;
+import ro.unibuc.hello.service.GameCatalogCache;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static ro.unibuc.hello.data.entity.CartEntity.buildCartEntry;
 import static ro.unibuc.hello.data.entity.GameEntity.*;
 import static ro.unibuc.hello.data.entity.LibraryEntity.buildLibraryEntry;
 import static ro.unibuc.hello.data.entity.UserEntity.*;
 import static ro.unibuc.hello.data.entity.WishlistEntity.buildWishlistEntry;
+import static ro.unibuc.hello.utils.DatabaseUtils.generateId;
 import static ro.unibuc.hello.utils.DatabaseUtils.getId;
 import static ro.unibuc.hello.utils.DatabaseUtils.setTemplate;
+import static ro.unibuc.hello.utils.DatabaseUtils.startAllocating;
 
 @Component
+@DependsOn({"authenticationUtils", "idGenerator"})
 public class DatabaseSeeder {
 
     @Autowired
@@ -38,6 +45,12 @@ public class DatabaseSeeder {
     @Autowired
     private WishlistRepository wishlistRepository;
 
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private GameCatalogCache gameCatalogCache;
+
     private UserEntity getDeveloper(Integer id) {
         return userRepository.findByIdAndRole(getId("developers", id), Role.DEVELOPER);
     }
@@ -50,94 +63,95 @@ public class DatabaseSeeder {
         return gameRepository.findByIdAndType(getId("games", id), Type.GAME);
     }
 
-    private void updateDeveloper(GameEntity gameEntity) {
-        UserEntity developer = userRepository.findByIdAndRole(gameEntity.getDeveloper().getId(), Role.DEVELOPER);
-        developer.getGames().add(gameEntity);
-        userRepository.save(developer);
-    }
-
-    private void updateCustomer(LibraryEntity libraryEntity) {
-        UserEntity customer = userRepository.findByIdAndRole(libraryEntity.getCustomer().getId(), Role.CUSTOMER);
-        customer.getGames().add(libraryEntity.getGame());
-        userRepository.save(customer);
-    }
-
     private void updateBaseGame(GameEntity dlcEntity) {
-        GameEntity baseGame = gameRepository.findByIdAndType(dlcEntity.getBaseGame().getId(), Type.GAME);
-        baseGame.getDlcs().add(dlcEntity);
-        gameRepository.save(baseGame);
+        gameRepository.addDlc(dlcEntity.getBaseGame().getId(), dlcEntity);
     }
 
     @Async
     protected void seedDeveloper() {
-        userRepository.saveAll(List.of(
-            buildDeveloper(
+        userRepository.saveAll(buildUsers("developers", List.of(
+            id -> buildDeveloper(
+                    id,
                     "PlayStation Studios",
                     "https://www.playstation.com/playstation-studios/"
             ),
-            buildDeveloper(
+            id -> buildDeveloper(
+                    id,
                     "CD PROJEKT RED",
                     "https://www.cdprojektred.com/en"
             ),
-            buildDeveloper(
+            id -> buildDeveloper(
+                    id,
                     "Square Enix",
                     "https://www.square-enix.com/"
             ),
-            buildDeveloper(
+            id -> buildDeveloper(
+                    id,
                     "Nintendo",
                     "https://www.nintendo.com/us/"
             ),
-            buildDeveloper(
+            id -> buildDeveloper(
+                    id,
                     "18Light Game",
                     "https://www.18light.cc/en/"
             ),
-            buildDeveloper(
+            id -> buildDeveloper(
+                    id,
                     "Capcom",
                     "https://www.capcom.com/"
             ),
-            buildDeveloper(
+            id -> buildDeveloper(
+                    id,
                     "FromSoftware",
                     "https://www.fromsoftware.jp/ww/"
             ),
-            buildDeveloper(
+            id -> buildDeveloper(
+                    id,
                     "Kojima Productions",
                     "https://www.kojimaproductions.jp/en"
             ),
-            buildDeveloper(
+            id -> buildDeveloper(
+                    id,
                     "Rockstar Games",
                     "https://www.fromsoftware.jp/ww/"
             ),
-            buildDeveloper(
+            id -> buildDeveloper(
+                    id,
                     "Frictional Games",
                     "https://frictionalgames.com/"
             )
-        ));
+        )));
     }
 
     @Async
     protected void seedCustomer() {
-        userRepository.saveAll(List.of(
-            buildCustomer(
+        userRepository.saveAll(buildUsers("customers", List.of(
+            id -> buildCustomer(
+                    id,
                     "Fix",
                     "Bambucea"
             ),
-            buildCustomer(
+            id -> buildCustomer(
+                    id,
                     "Bradea",
                     "Codrin"
             ),
-            buildCustomer(
+            id -> buildCustomer(
+                    id,
                     "Andrei",
                     "Neculae"
             ),
-            buildCustomer(
+            id -> buildCustomer(
+                    id,
                     "Sebi",
                     "Mihalache"
             ),
-            buildCustomer(
+            id -> buildCustomer(
+                    id,
                     "Giulian",
                     "Buzatu"
             )
-        ));
+        )));
     }
 
     @Async
@@ -203,8 +217,7 @@ public class DatabaseSeeder {
                     "22-09-2015",
                     getDeveloper(9)
             )
-        ))
-        .forEach(this::updateDeveloper);
+        ));
     }
 
     @Async
@@ -281,10 +294,7 @@ public class DatabaseSeeder {
                     getGame(9)
             )
         ))
-        .forEach(dlcEntity -> {
-            updateBaseGame(dlcEntity);
-            updateDeveloper(dlcEntity);
-        });
+        .forEach(this::updateBaseGame);
     }
 
     protected void seedLibrary() {
@@ -305,8 +315,7 @@ public class DatabaseSeeder {
                     getGame(0),
                     getCustomer(1)
             )
-        ))
-        .forEach(this::updateCustomer);
+        ));
     }
 
     protected void seedCart() {
@@ -351,6 +360,23 @@ public class DatabaseSeeder {
         ));
     }
 
+    private List<UserEntity> buildUsers(String key, List<Function<String, UserEntity>> builders) {
+        List<String> ids = builders
+                .stream()
+                .map(ignored -> generateId(key))
+                .toList();
+
+        List<CompletableFuture<UserEntity>> users = IntStream
+                .range(0, builders.size())
+                .mapToObj(i -> passwordHasher.supply(() -> builders.get(i).apply(ids.get(i))))
+                .toList();
+
+        return users
+                .stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
     private CompletableFuture<Void> executeAsync(List<Runnable> actions) {
         return CompletableFuture.allOf(actions
                 .stream()
@@ -365,6 +391,7 @@ public class DatabaseSeeder {
         setTemplate("customers", "67c9f02a5582625f6c6639cust");
         setTemplate("games", "67c9f02a5582625f6c6639game");
         setTemplate("dlcs", "67c9f02a5582625f6c6639dlc");
+        gameCatalogCache.clear();
 
         executeAsync(List.of(
             userRepository::deleteAll,
@@ -385,6 +412,11 @@ public class DatabaseSeeder {
             this::seedWishlist
         )))
         .join();
+
+        startAllocating("developers");
+        startAllocating("customers");
+        startAllocating("games");
+        startAllocating("dlcs");
     }
 
 }
@@ -0,0 +1,49 @@
+package ro.unibuc.hello.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// Take precedence over the options of the connection string
+@Getter
+@Setter
+@ConfigurationProperties("mongodb.client")
+public class MongoClientProperties {
+
+    private Pool pool = new Pool();
+
+    private Socket socket = new Socket();
+
+    private List<String> compressors = new ArrayList<>(List.of("zstd", "snappy"));
+
+    private String publicReadPreference = "secondaryPreferred";
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private int maxSize = 100;
+
+        private int minSize = 10;
+
+        private Duration maxWaitTime = Duration.ofSeconds(2);
+
+        private Duration maxConnectionIdleTime = Duration.ofMinutes(5);
+
+    }
+
+    @Getter
+    @Setter
+    public static class Socket {
+
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        private Duration readTimeout = Duration.ofSeconds(10);
+
+    }
+
+}
@@ -2,22 +2,39 @@ package ro.unibuc.hello.config;
 
 import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadPreference;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsConnectionPoolListener;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
 import org.springframework.data.mongodb.config.AbstractMongoClientConfiguration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.lang.NonNull;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@EnableConfigurationProperties(MongoClientProperties.class)
 public class MongoConfig extends AbstractMongoClientConfiguration {
 
     @Value("${mongodb.connection.url}")
     private String connectionURL;
 
+    @Autowired
+    private MongoClientProperties clientProperties;
+
     @Override
     @NonNull
     protected String getDatabaseName() {
@@ -27,12 +44,22 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
     @Override
     @NonNull
     public MongoClient mongoClient() {
-        MongoClientSettings mongoClientSettings = MongoClientSettings
-                .builder()
-                .applyConnectionString(new ConnectionString(connectionURL))
-                .build();
+        return MongoClients.create(clientSettings(connectionURL, clientProperties));
+    }
+
+    @Override
+    @NonNull
+    public MongoTemplate mongoTemplate(@NonNull MongoDatabaseFactory databaseFactory, @NonNull MappingMongoConverter converter) {
+        return new PublicReadMongoTemplate(
+                databaseFactory,
+                converter,
+                ReadPreference.valueOf(clientProperties.getPublicReadPreference())
+        );
+    }
 
-        return MongoClients.create(mongoClientSettings);
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
     }
 
     @Override
@@ -41,4 +68,36 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
         return Collections.singleton("ro.unibuc.hello.data");
     }
 
+    static MongoClientSettings clientSettings(String connectionURL, MongoClientProperties properties) {
+        MongoClientProperties.Pool pool = properties.getPool();
+        MongoClientProperties.Socket socket = properties.getSocket();
+
+        return MongoClientSettings
+                .builder()
+                .applyConnectionString(new ConnectionString(connectionURL))
+                .applyToConnectionPoolSettings(builder -> builder
+                        .maxSize(pool.getMaxSize())
+                        .minSize(pool.getMinSize())
+                        .maxWaitTime(pool.getMaxWaitTime().toMillis(), TimeUnit.MILLISECONDS)
+                        .maxConnectionIdleTime(pool.getMaxConnectionIdleTime().toMillis(), TimeUnit.MILLISECONDS)
+                        .addConnectionPoolListener(new MongoMetricsConnectionPoolListener(Metrics.globalRegistry)))
+                .applyToSocketSettings(builder -> builder
+                        .connectTimeout(socket.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                        .readTimeout(socket.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS))
+                .compressorList(compressors(properties.getCompressors()))
+                .build();
+    }
+
+    private static List<MongoCompressor> compressors(List<String> names) {
+        return names
+                .stream()
+                .map(name -> switch (name) {
+                    case "zstd" -> MongoCompressor.createZstdCompressor();
+                    case "snappy" -> MongoCompressor.createSnappyCompressor();
+                    case "zlib" -> MongoCompressor.createZlibCompressor();
+                    default -> throw new IllegalArgumentException(String.format("Unknown Mongo compressor %s!", name));
+                })
+                .toList();
+    }
+
 }
@@ -22,6 +22,15 @@ public class MongoIndexConfig {
         fields.forEach(field -> collection.createIndex(Indexes.ascending(field), new IndexOptions().unique(true)));
     }
 
+    private void indexes(MongoCollection<Document> collection, List<String> fields) {
+        fields.forEach(field -> collection.createIndex(Indexes.ascending(field)));
+    }
+
+    private void compositeKeyIndexes(MongoCollection<Document> collection) {
+        collection.createIndex(Indexes.ascending("_id.customerId", "_id.gameId"));
+        collection.createIndex(Indexes.ascending("_id.gameId"));
+    }
+
     private void partialIndexes(MongoCollection<Document> collection, List<String> fields) {
         fields.forEach(field -> collection.createIndex(Indexes.ascending(field), new IndexOptions().partialFilterExpression(Filters.exists(field, true))));
     }
@@ -35,6 +44,14 @@ public class MongoIndexConfig {
         uniqueIndexes(users, List.of("username", "email"));
 
         partialIndexes(users, List.of("details.studio"));
+
+        indexes(games, List.of("type"));
+        games.createIndex(Indexes.ascending("developer", "title"));
+
+        List.of("library", "cart", "wishlist", "reservations").forEach(collectionName -> compositeKeyIndexes(mongoTemplate.getCollection(collectionName)));
+        // Not a TTL index: the reaper has to give the keys of the expired holds back before deleting them
+        indexes(mongoTemplate.getCollection("reservations"), List.of("expiresAt"));
+        indexes(mongoTemplate.getCollection("game_stock"), List.of("gameId"));
     }
 
 }
@@ -0,0 +1,39 @@
+package ro.unibuc.hello.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import ro.unibuc.hello.security.TimedPasswordEncoder;
+
+import java.util.Map;
+
+import static org.springframework.security.crypto.password.Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256;
+
+@Configuration
+public class PasswordConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.encoder:bcrypt}") String encoderId,
+            @Value("${security.password.bcrypt.strength:12}") int bcryptStrength,
+            @Value("${security.password.pbkdf2.iterations:310000}") int pbkdf2Iterations
+    ) {
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", new BCryptPasswordEncoder(bcryptStrength),
+                "pbkdf2-sha256", new Pbkdf2PasswordEncoder("", 16, pbkdf2Iterations, PBKDF2WithHmacSHA256)
+        );
+        if (!encoders.containsKey(encoderId)) {
+            throw new IllegalArgumentException(String.format("Unknown password encoder %s, expected one of %s", encoderId, encoders.keySet()));
+        }
+
+        // Hashes stored before the encoder became configurable have no {id} prefix and are all BCrypt
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(encoderId, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(encoders.get("bcrypt"));
+        return new TimedPasswordEncoder(passwordEncoder);
+    }
+
+}
@@ -0,0 +1,33 @@
+package ro.unibuc.hello.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.data.mongodb.core.aggregation.ArithmeticOperators.Multiply.valueOf;
+import static org.springframework.data.mongodb.core.aggregation.ArithmeticOperators.Round.roundValueOf;
+import static org.springframework.data.mongodb.core.aggregation.ConvertOperators.ToLong.toLong;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Component
+public class PriceCentsMigration {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        mongoTemplate.updateMulti(
+                query(where("price").exists(true).and("priceCents").exists(false)),
+                AggregationUpdate
+                        .update()
+                        .set("priceCents").toValueOf(toLong(roundValueOf(valueOf("price").multiplyBy(100)).place(0)))
+                        .unset("price"),
+                "games"
+        );
+    }
+
+}
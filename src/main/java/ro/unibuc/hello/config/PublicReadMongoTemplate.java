@@ -0,0 +1,42 @@
+package ro.unibuc.hello.config;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.lang.NonNull;
+
+public class PublicReadMongoTemplate extends MongoTemplate {
+
+    private static final ThreadLocal<Boolean> PUBLIC_READ = ThreadLocal.withInitial(() -> false);
+
+    private final ReadPreference publicReadPreference;
+
+    public PublicReadMongoTemplate(MongoDatabaseFactory mongoDbFactory, MongoConverter mongoConverter, ReadPreference publicReadPreference) {
+        super(mongoDbFactory, mongoConverter);
+        this.publicReadPreference = publicReadPreference;
+    }
+
+    public static boolean isPublicRead() {
+        return PUBLIC_READ.get();
+    }
+
+    public static void setPublicRead(boolean publicRead) {
+        if (publicRead) {
+            PUBLIC_READ.set(true);
+        } else {
+            PUBLIC_READ.remove();
+        }
+    }
+
+    @Override
+    @NonNull
+    protected MongoCollection<Document> prepareCollection(@NonNull MongoCollection<Document> collection) {
+        return isPublicRead()
+                ? collection.withReadPreference(publicReadPreference)
+                : super.prepareCollection(collection);
+    }
+
+}
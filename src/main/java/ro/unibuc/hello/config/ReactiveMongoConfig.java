@@ -0,0 +1,42 @@
+package ro.unibuc.hello.config;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+@Configuration
+public class ReactiveMongoConfig {
+
+    @Value("${mongodb.connection.url}")
+    private String connectionURL;
+
+    @Autowired
+    private MongoClientProperties clientProperties;
+
+    @Bean
+    public MongoClient reactiveMongoClient() {
+        return MongoClients.create(MongoConfig.clientSettings(connectionURL, clientProperties));
+    }
+
+    @Bean
+    public ReactiveMongoDatabaseFactory reactiveMongoDatabaseFactory(MongoClient reactiveMongoClient, MongoDatabaseFactory mongoDatabaseFactory) {
+        return new SimpleReactiveMongoDatabaseFactory(reactiveMongoClient, mongoDatabaseFactory.getMongoDatabase().getName());
+    }
+
+    @Bean
+    public ReactiveMongoTemplate reactiveMongoTemplate(ReactiveMongoDatabaseFactory reactiveMongoDatabaseFactory, MappingMongoConverter converter) {
+        ReactiveMongoTemplate mongoTemplate = new ReactiveMongoTemplate(reactiveMongoDatabaseFactory, converter);
+        mongoTemplate.setReadPreference(ReadPreference.valueOf(clientProperties.getPublicReadPreference()));
+        return mongoTemplate;
+    }
+
+}
@@ -0,0 +1,27 @@
+package ro.unibuc.hello.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Component
+public class UserGamesMigration {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        mongoTemplate.updateMulti(
+                query(where("games").exists(true)),
+                new Update().unset("games"),
+                "users"
+        );
+    }
+
+}
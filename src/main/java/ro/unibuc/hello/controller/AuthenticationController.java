@@ -13,9 +13,9 @@ import ro.unibuc.hello.dto.Customer;
 import ro.unibuc.hello.dto.Developer;
 import ro.unibuc.hello.dto.Token;
 import ro.unibuc.hello.service.AuthenticationService;
+import ro.unibuc.hello.utils.ResponseUtils;
 
-import static ro.unibuc.hello.utils.ResponseUtils.created;
-import static ro.unibuc.hello.utils.ResponseUtils.ok;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 @RequestMapping("/auth")
@@ -26,20 +26,20 @@ public class AuthenticationController {
 
     @PostMapping("/login")
     @ResponseBody
-    public ResponseEntity<Token> login(@RequestBody Credentials credentials) {
-        return ok(authenticationService.login(credentials));
+    public CompletableFuture<ResponseEntity<Token>> login(@RequestBody Credentials credentials) {
+        return authenticationService.login(credentials).thenApply(ResponseUtils::ok);
     }
 
     @PostMapping("/signup/developer")
     @ResponseBody
-    public ResponseEntity<UserEntity> signupDeveloper(@RequestBody Developer developer) {
-        return created(authenticationService.signupDeveloper(developer));
+    public CompletableFuture<ResponseEntity<UserEntity>> signupDeveloper(@RequestBody Developer developer) {
+        return authenticationService.signupDeveloper(developer).thenApply(ResponseUtils::created);
     }
 
     @PostMapping("/signup/customer")
     @ResponseBody
-    public ResponseEntity<UserEntity> signupCustomer(@RequestBody Customer customer) {
-        return created(authenticationService.signupCustomer(customer));
+    public CompletableFuture<ResponseEntity<UserEntity>> signupCustomer(@RequestBody Customer customer) {
+        return authenticationService.signupCustomer(customer).thenApply(ResponseUtils::created);
     }
 
 }
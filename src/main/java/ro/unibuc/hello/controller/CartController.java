@@ -6,9 +6,12 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import ro.unibuc.hello.annotation.CustomerOnly;
 import ro.unibuc.hello.data.entity.CartEntity;
+import ro.unibuc.hello.dto.BatchResult;
 import ro.unibuc.hello.dto.CartInfo;
 import ro.unibuc.hello.service.CartService;
 
+import java.util.List;
+
 import static ro.unibuc.hello.utils.ResponseUtils.*;
 
 @Controller
@@ -33,6 +36,13 @@ public class CartController {
         return noContent();
     }
 
+    @PostMapping("/batch")
+    @ResponseBody
+    @CustomerOnly
+    public ResponseEntity<List<BatchResult>> addAllToCart(@RequestBody List<String> gameIds) {
+        return ok(cartService.addAllToCart(gameIds));
+    }
+
     @PostMapping("/{gameId}")
     @ResponseBody
     @CustomerOnly
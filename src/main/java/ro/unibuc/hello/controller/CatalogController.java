@@ -0,0 +1,63 @@
+package ro.unibuc.hello.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ro.unibuc.hello.annotation.CustomerOnly;
+import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.service.ReactiveCatalogService;
+
+import static ro.unibuc.hello.data.entity.GameEntity.Type;
+
+@Controller
+@RequestMapping("/catalog")
+public class CatalogController {
+
+    @Autowired
+    private ReactiveCatalogService catalogService;
+
+    @GetMapping(value = "/games", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseBody
+    public Flux<GameEntity> getGames() {
+        return catalogService.getAllGames(Type.GAME);
+    }
+
+    @GetMapping("/games/{id}")
+    @ResponseBody
+    public Mono<GameEntity> getGameById(@PathVariable String id) {
+        return catalogService.getGameById(id, Type.GAME);
+    }
+
+    @GetMapping(value = "/games/{id}/dlcs", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseBody
+    public Flux<GameEntity> getGameDLCs(@PathVariable String id) {
+        return catalogService.getGameDLCs(id);
+    }
+
+    @GetMapping(value = "/dlcs", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseBody
+    public Flux<GameEntity> getDLCs() {
+        return catalogService.getAllGames(Type.DLC);
+    }
+
+    @GetMapping("/dlcs/{id}")
+    @ResponseBody
+    public Mono<GameEntity> getDLCById(@PathVariable String id) {
+        return catalogService.getGameById(id, Type.DLC);
+    }
+
+    @GetMapping(value = "/store", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseBody
+    @CustomerOnly
+    public Flux<GameEntity> getStore(
+            @RequestParam Boolean hideOwned,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "50") Integer limit
+    ) {
+        return catalogService.getStore(hideOwned, cursor, limit);
+    }
+
+}
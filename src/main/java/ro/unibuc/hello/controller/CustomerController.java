@@ -5,9 +5,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import ro.unibuc.hello.annotation.CustomerOnly;
-import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.annotation.PublicRead;
 import ro.unibuc.hello.data.entity.UserEntity;
 import ro.unibuc.hello.dto.Customer;
+import ro.unibuc.hello.dto.GamePage;
 import ro.unibuc.hello.service.CustomerService;
 
 import java.util.List;
@@ -23,18 +24,25 @@ public class CustomerController {
 
     @GetMapping("/{id}")
     @ResponseBody
+    @PublicRead
     public ResponseEntity<UserEntity> getCustomerById(@PathVariable String id) {
         return ok(customerService.getCustomer(id));
     }
 
     @GetMapping("/{id}/games")
     @ResponseBody
-    public ResponseEntity<List<GameEntity>> getCustomerGames(@PathVariable String id) {
-        return ok(customerService.getGames(id));
+    @PublicRead
+    public ResponseEntity<GamePage> getCustomerGames(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "50") Integer limit
+    ) {
+        return ok(customerService.getGames(id, cursor, limit));
     }
 
     @GetMapping("")
     @ResponseBody
+    @PublicRead
     public ResponseEntity<List<UserEntity>> getAllCustomers() {
         return ok(customerService.getAllUsers());
     }
@@ -42,8 +50,11 @@ public class CustomerController {
     @GetMapping("/myGames")
     @ResponseBody
     @CustomerOnly
-    public ResponseEntity<List<GameEntity>> getMyGames() {
-        return ok(customerService.getGames());
+    public ResponseEntity<GamePage> getMyGames(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "50") Integer limit
+    ) {
+        return ok(customerService.getGames(cursor, limit));
     }
 
     @PutMapping("")
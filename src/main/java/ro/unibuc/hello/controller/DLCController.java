@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import ro.unibuc.hello.annotation.DeveloperOnly;
+import ro.unibuc.hello.annotation.PublicRead;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.dto.Game;
 import ro.unibuc.hello.service.DLCService;
@@ -23,12 +24,14 @@ public class DLCController {
 
     @GetMapping("/{id}")
     @ResponseBody
+    @PublicRead
     public ResponseEntity<GameEntity> getDLCyId(@PathVariable String id) {
         return ok(dlcService.getGameById(id));
     }
 
     @GetMapping("")
     @ResponseBody
+    @PublicRead
     public ResponseEntity<List<GameEntity>> getDLCs() {
         return ok(dlcService.getAllGames());
     }
@@ -5,9 +5,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import ro.unibuc.hello.annotation.DeveloperOnly;
-import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.annotation.PublicRead;
 import ro.unibuc.hello.data.entity.UserEntity;
 import ro.unibuc.hello.dto.Developer;
+import ro.unibuc.hello.dto.GamePage;
 import ro.unibuc.hello.service.DeveloperService;
 
 import java.util.List;
@@ -23,18 +24,25 @@ public class DeveloperController {
 
     @GetMapping("/{id}")
     @ResponseBody
+    @PublicRead
     public ResponseEntity<UserEntity> getDeveloperById(@PathVariable String id) {
         return ok(developerService.getDeveloper(id));
     }
 
     @GetMapping("/{id}/games")
     @ResponseBody
-    public ResponseEntity<List<GameEntity>> getDeveloperGames(@PathVariable String id) {
-        return ok(developerService.getGames(id));
+    @PublicRead
+    public ResponseEntity<GamePage> getDeveloperGames(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "50") Integer limit
+    ) {
+        return ok(developerService.getGames(id, cursor, limit));
     }
 
     @GetMapping("")
     @ResponseBody
+    @PublicRead
     public ResponseEntity<List<UserEntity>> getAllDevelopers() {
         return ok(developerService.getAllUsers());
     }
@@ -42,8 +50,11 @@ public class DeveloperController {
     @GetMapping("/myGames")
     @ResponseBody
     @DeveloperOnly
-    public ResponseEntity<List<GameEntity>> getMyGames() {
-        return ok(developerService.getGames());
+    public ResponseEntity<GamePage> getMyGames(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "50") Integer limit
+    ) {
+        return ok(developerService.getGames(cursor, limit));
     }
 
     @PutMapping("")
@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import ro.unibuc.hello.annotation.DeveloperOnly;
+import ro.unibuc.hello.annotation.PublicRead;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.dto.Game;
 import ro.unibuc.hello.service.DLCService;
@@ -26,18 +27,21 @@ public class GameController {
 
     @GetMapping("/{id}")
     @ResponseBody
+    @PublicRead
     public ResponseEntity<GameEntity> getGameById(@PathVariable String id) {
         return ok(gameService.getGameById(id));
     }
 
     @GetMapping("/{id}/dlcs")
     @ResponseBody
+    @PublicRead
     public ResponseEntity<List<GameEntity>> getGameDLCs(@PathVariable String id) {
         return ok(gameService.getGameDLCs(id));
     }
 
     @GetMapping("")
     @ResponseBody
+    @PublicRead
     public ResponseEntity<List<GameEntity>> getGames() {
         return ok(gameService.getAllGames());
     }
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import ro.unibuc.hello.annotation.CustomerOnly;
+import ro.unibuc.hello.annotation.PublicRead;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.service.LibraryService;
 
@@ -31,6 +32,7 @@ public class LibraryController {
 
     @GetMapping("/{customerId}")
     @ResponseBody
+    @PublicRead
     public ResponseEntity<List<GameEntity>> getLibraryByCustomerId(@PathVariable String customerId) {
         return ok(libraryService.getLibraryByCustomerId(customerId));
     }
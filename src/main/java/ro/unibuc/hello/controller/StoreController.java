@@ -8,11 +8,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import ro.unibuc.hello.annotation.CustomerOnly;
-import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.dto.GamePage;
 import ro.unibuc.hello.service.StoreService;
 
-import java.util.List;
-
 import static ro.unibuc.hello.utils.ResponseUtils.ok;
 
 @Controller
@@ -25,8 +23,12 @@ public class StoreController {
     @GetMapping("")
     @ResponseBody
     @CustomerOnly
-    public ResponseEntity<List<GameEntity>> getStore(@RequestParam Boolean hideOwned) {
-        return ok(storeService.getStore(hideOwned));
+    public ResponseEntity<GamePage> getStore(
+            @RequestParam Boolean hideOwned,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "50") Integer limit
+    ) {
+        return ok(storeService.getStore(hideOwned, cursor, limit));
     }
 
 }
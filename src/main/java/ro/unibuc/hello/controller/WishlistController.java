@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.*;
 import ro.unibuc.hello.annotation.CustomerOnly;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.WishlistEntity;
+import ro.unibuc.hello.dto.BatchResult;
 import ro.unibuc.hello.service.WishlistService;
 
 import java.util.List;
@@ -27,6 +28,13 @@ public class WishlistController {
         return ok(wishlistService.getWishlist());
     }
 
+    @PostMapping("/batch")
+    @ResponseBody
+    @CustomerOnly
+    public ResponseEntity<List<BatchResult>> addAllToWishlist(@RequestBody List<String> gameIds) {
+        return ok(wishlistService.addAllToWishlist(gameIds));
+    }
+
     @PostMapping("/{gameId}")
     @ResponseBody
     @CustomerOnly
@@ -41,4 +41,8 @@ public class CartEntity {
                 .build();
     }
 
+    public static CartEntity buildCartEntry(String gameId, UserEntity customer) {
+        return buildCartEntry(GameEntity.builder().id(gameId).build(), customer);
+    }
+
 }
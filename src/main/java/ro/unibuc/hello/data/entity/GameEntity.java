@@ -4,19 +4,20 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
-import ro.unibuc.hello.exception.ValidationException;
 
-import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.function.Predicate;
 
 import static ro.unibuc.hello.utils.DatabaseUtils.generateId;
 import static ro.unibuc.hello.utils.DateUtils.dateNow;
 import static ro.unibuc.hello.utils.DateUtils.parseDate;
+import static ro.unibuc.hello.utils.PriceUtils.*;
 import static ro.unibuc.hello.utils.ValidationUtils.*;
 
 @Getter
@@ -41,10 +42,13 @@ public class GameEntity {
     @Indexed(unique = true)
     private String title;
 
-    private Double price;
+    @JsonIgnore
+    private Long priceCents;
 
     private Integer discountPercentage;
 
+    // With sharded stock these are only the keys not yet spread over the shards, see GameRepository.loadKeys
+    @With
     private Integer keys;
 
     @EqualsAndHashCode.Exclude
@@ -64,7 +68,8 @@ public class GameEntity {
     @EqualsAndHashCode.Exclude
     private GameEntity baseGame;
 
-    @DBRef
+    // Append with GameRepository.addDlc
+    @DBRef(lazy = true)
     @JsonIgnore
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -74,7 +79,7 @@ public class GameEntity {
         return GameEntity
                 .builder()
                 .title(title)
-                .price(price)
+                .priceCents(toCents(price))
                 .discountPercentage(discountPercentage)
                 .keys(keys)
                 .releaseDate(dateNow())
@@ -89,7 +94,7 @@ public class GameEntity {
                 .builder()
                 .id(generateId("games"))
                 .title(title)
-                .price(price)
+                .priceCents(toCents(price))
                 .discountPercentage(0)
                 .keys(100)
                 .releaseDate(parseDate(releaseDate))
@@ -129,44 +134,51 @@ public class GameEntity {
         return dlc;
     }
 
-    public double discountedPrice() {
-        return Double.parseDouble(new DecimalFormat("#.##").format(price - price * discountPercentage / 100));
+    @Transient
+    public Double getPrice() {
+        return toPrice(priceCents);
     }
 
-    public static double totalPrice(List <GameEntity> games) {
-        return games
-                .stream()
-                .mapToDouble(GameEntity::discountedPrice)
-                .sum();
+    public void setPrice(Double price) {
+        priceCents = toCents(price);
+    }
+
+    public long discountedPriceCents() {
+        return discount(priceCents, discountPercentage);
     }
 
-    public synchronized void decreaseNoKeys() {
-        if (keys <= 0) {
-            throw new ValidationException("There are no more keys for %s, please remove it from the cart!", title);
+    public double discountedPrice() {
+        return toPrice(discountedPriceCents());
+    }
+
+    public static double totalPrice(List <GameEntity> games) {
+        long totalCents = 0;
+        for (GameEntity game : games) {
+            totalCents += game.discountedPriceCents();
         }
-        keys--;
+        return toPrice(totalCents);
     }
 
-    private static ValidationRule<String> validate(List<GameEntity> games, String collectionName, boolean shouldBeIn) {
+    private static ValidationRule<String> validate(Predicate<String> contains, String collectionName, boolean shouldBeIn) {
         return shouldBeIn
-                ? isIn(() -> games, collectionName)
-                : isNotIn(() -> games, collectionName);
+                ? isIn(contains, collectionName)
+                : isNotIn(contains, collectionName);
     }
 
-    public static ValidationRule<String> notInWishlist(List<GameEntity> games) {
-        return validate(games, "wishlist", false);
+    public static ValidationRule<String> notInWishlist(Predicate<String> wishlist) {
+        return validate(wishlist, "wishlist", false);
     }
 
-    public static ValidationRule<String> inWishlist(List<GameEntity> games) {
-        return validate(games, "wishlist", true);
+    public static ValidationRule<String> inWishlist(Predicate<String> wishlist) {
+        return validate(wishlist, "wishlist", true);
     }
 
-    public static ValidationRule<String> notInCart(List<GameEntity> games) {
-        return validate(games, "cart", false);
+    public static ValidationRule<String> notInCart(Predicate<String> cart) {
+        return validate(cart, "cart", false);
     }
 
-    public static ValidationRule<String> notInLibrary(List<GameEntity> games) {
-        return validate(games, "library", false);
+    public static ValidationRule<String> notInLibrary(Predicate<String> library) {
+        return validate(library, "library", false);
     }
 
 }
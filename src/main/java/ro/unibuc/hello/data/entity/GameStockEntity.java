@@ -0,0 +1,30 @@
+package ro.unibuc.hello.data.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document("game_stock")
+public class GameStockEntity {
+
+    @Id
+    private String id;
+
+    private String gameId;
+
+    private Integer shard;
+
+    private Integer keys;
+
+    public static String shardId(String gameId, int shard) {
+        return String.format("%s#%d", gameId, shard);
+    }
+
+}
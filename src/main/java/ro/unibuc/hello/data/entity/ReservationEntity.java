@@ -0,0 +1,26 @@
+package ro.unibuc.hello.data.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+import static ro.unibuc.hello.utils.DatabaseUtils.CompositeKey;
+
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document("reservations")
+public class ReservationEntity {
+
+    @Id
+    private CompositeKey id;
+
+    private Date expiresAt;
+
+}
@@ -1,18 +1,12 @@
 package ro.unibuc.hello.data.entity;
 
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.Indexed;
-import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static ro.unibuc.hello.security.AuthenticationUtils.encryptPassword;
-import static ro.unibuc.hello.utils.DatabaseUtils.generateId;
 
 @Getter
 @Setter
@@ -75,35 +69,37 @@ public class UserEntity {
 
     private UserDetails details;
 
-    @DBRef
-    @JsonIgnore
-    @ToString.Exclude
-    @EqualsAndHashCode.Exclude
-    private List<GameEntity> games;
-
     public UserEntity(String username, String password, String email, Role role, UserDetails details) {
         this.username = username;
         this.password = encryptPassword(password);
         this.email = email;
         this.role = role;
         this.details = details;
-        this.games = new ArrayList<>();
     }
 
-    public UserEntity(String id, String username, String password, String email, Role role, UserDetails details, List<GameEntity> games) {
+    public UserEntity(String id, String username, String password, String email, Role role, UserDetails details) {
         this.id = id;
         this.username = username;
         this.password = encryptPassword(password);
         this.email = email;
         this.role = role;
         this.details = details;
-        this.games = games;
     }
 
     public void setPassword(String password) {
         this.password = encryptPassword(password);
     }
 
+    public static UserEntity withEncodedPassword(String username, String encodedPassword, String email, Role role, UserDetails details) {
+        UserEntity user = new UserEntity();
+        user.username = username;
+        user.password = encodedPassword;
+        user.email = email;
+        user.role = role;
+        user.details = details;
+        return user;
+    }
+
     private static UserEntity buildUser(String id, String email, Role role, UserDetails details) {
         String username = role == Role.CUSTOMER
                 ? String.format("%s%s", details.getFirstName(), details.getLastName())
@@ -117,22 +113,21 @@ public class UserEntity {
                 .email(email)
                 .role(role)
                 .details(details)
-                .games(new ArrayList<>())
                 .build();
     }
 
-    public static UserEntity buildDeveloper(String studio, String website) {
+    public static UserEntity buildDeveloper(String id, String studio, String website) {
         return buildUser(
-                generateId("developers"),
+                id,
                 String.format("contact@%s.com", studio.split("\\s")[0].toLowerCase()),
                 Role.DEVELOPER,
                 UserDetails.forDeveloper(studio, website)
         );
     }
 
-    public static UserEntity buildCustomer(String firstName, String lastName) {
+    public static UserEntity buildCustomer(String id, String firstName, String lastName) {
         return buildUser(
-                generateId("customers"),
+                id,
                 String.format("%s%s@gmail.com", firstName.toLowerCase(), lastName.toLowerCase()),
                 Role.CUSTOMER,
                 UserDetails.forCustomer(firstName, lastName)
@@ -2,18 +2,20 @@ package ro.unibuc.hello.data.repository;
 
 import org.springframework.stereotype.Repository;
 import ro.unibuc.hello.data.entity.CartEntity;
-import ro.unibuc.hello.data.entity.GameEntity;
-
-import java.util.function.Function;
 
 import static ro.unibuc.hello.utils.DatabaseUtils.CompositeKey;
 
 @Repository
-public interface CartRepository extends GameCollectionRepository<CartEntity, CompositeKey> {
+public interface CartRepository extends GameCollectionRepository<CartEntity, CompositeKey>, GameCollectionRepositoryCustom {
+
+    @Override
+    default String getCollectionName() {
+        return "cart";
+    }
 
     @Override
-    default Function<CartEntity, GameEntity> getGameMapper() {
-        return CartEntity::getGame;
+    default CompositeKey buildKey(String gameId, String customerId) {
+        return new CompositeKey(gameId, customerId);
     }
 
 }
@@ -5,23 +5,43 @@ import org.springframework.data.repository.NoRepositoryBean;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.function.Function;
+import java.util.Set;
 
 @NoRepositoryBean
-public interface GameCollectionRepository<T, K> extends MongoRepository<T, K> {
+public interface GameCollectionRepository<T, K> extends MongoRepository<T, K>, GameCollectionRepositoryCustom {
 
     void deleteById_CustomerId(String customerId);
     void deleteById_GameId(String gameId);
+    void deleteById_CustomerIdAndId_GameIdIn(String customerId, Collection<String> gameIds);
     List<T> findById_CustomerId(String customerId);
 
     default List<GameEntity> getGamesByCustomer(UserEntity customer) {
-        return findById_CustomerId(customer.getId())
-                .stream()
-                .map(getGameMapper())
-                .toList();
+        return findGamesByCustomerId(getCollectionName(), customer.getId());
     }
 
-    Function<T, GameEntity> getGameMapper();
+    default List<GameEntity> getGamesByCustomerId(String customerId, String cursor, int limit) {
+        return findGamesByCustomerId(getCollectionName(), customerId, cursor, limit);
+    }
+
+    default List<String> getGameIdsByCustomer(UserEntity customer) {
+        return findGameIdsByCustomerId(getCollectionName(), customer.getId());
+    }
+
+    default List<String> getGameIdsByCustomer(UserEntity customer, Collection<String> gameIds) {
+        return findGameIdsByCustomerId(getCollectionName(), customer.getId(), gameIds);
+    }
+
+    default Set<Integer> insertUnordered(List<T> entries) {
+        return insertUnordered(getCollectionName(), entries);
+    }
+
+    default boolean containsGame(UserEntity customer, String gameId) {
+        return existsById(buildKey(gameId, customer.getId()));
+    }
+
+    String getCollectionName();
+    K buildKey(String gameId, String customerId);
 
 }
@@ -0,0 +1,17 @@
+package ro.unibuc.hello.data.repository;
+
+import ro.unibuc.hello.data.entity.GameEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface GameCollectionRepositoryCustom {
+
+    List<GameEntity> findGamesByCustomerId(String collectionName, String customerId);
+    List<GameEntity> findGamesByCustomerId(String collectionName, String customerId, String cursor, int limit);
+    List<String> findGameIdsByCustomerId(String collectionName, String customerId);
+    List<String> findGameIdsByCustomerId(String collectionName, String customerId, Collection<String> gameIds);
+    Set<Integer> insertUnordered(String collectionName, List<?> entries);
+
+}
@@ -0,0 +1,108 @@
+package ro.unibuc.hello.data.repository;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Query;
+import ro.unibuc.hello.data.entity.GameEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.aggregation.ConvertOperators.Convert.convertValueOf;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class GameCollectionRepositoryCustomImpl implements GameCollectionRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public GameCollectionRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // Composite keys keep the game id as a plain string, while hex ids are stored as ObjectId
+    private List<AggregationOperation> lookupGames(List<AggregationOperation> entries) {
+        List<AggregationOperation> operations = new ArrayList<>(entries);
+        operations.addAll(List.of(
+                addFields()
+                        .addFieldWithValue("gameId", convertValueOf("_id.gameId")
+                                .to("objectId")
+                                .onErrorReturnValueOf("_id.gameId"))
+                        .build(),
+                lookup("games", "gameId", "_id", "game"),
+                unwind("game"),
+                replaceRoot("game"),
+                project().andExclude("developer", "baseGame", "dlcs")
+        ));
+        return operations;
+    }
+
+    private List<GameEntity> findGames(String collectionName, List<AggregationOperation> operations) {
+        return mongoTemplate
+                .aggregate(newAggregation(operations), collectionName, GameEntity.class)
+                .getMappedResults();
+    }
+
+    @Override
+    public List<GameEntity> findGamesByCustomerId(String collectionName, String customerId) {
+        return findGames(collectionName, lookupGames(List.of(match(where("_id.customerId").is(customerId)))));
+    }
+
+    @Override
+    public List<GameEntity> findGamesByCustomerId(String collectionName, String customerId, String cursor, int limit) {
+        return findGames(collectionName, lookupGames(List.of(
+                match(where("_id.customerId").is(customerId).and("_id.gameId").gt(cursor)),
+                sort(Sort.Direction.ASC, "_id.gameId"),
+                limit(limit)
+        )));
+    }
+
+    private List<String> findGameIds(String collectionName, Query query) {
+        query.fields().include("_id.gameId");
+
+        return mongoTemplate
+                .find(query, Document.class, collectionName)
+                .stream()
+                .map(entry -> entry.get("_id", Document.class).getString("gameId"))
+                .toList();
+    }
+
+    @Override
+    public List<String> findGameIdsByCustomerId(String collectionName, String customerId) {
+        return findGameIds(collectionName, query(where("_id.customerId").is(customerId)));
+    }
+
+    @Override
+    public List<String> findGameIdsByCustomerId(String collectionName, String customerId, Collection<String> gameIds) {
+        return findGameIds(collectionName, query(where("_id.customerId").is(customerId).and("_id.gameId").in(gameIds)));
+    }
+
+    // Returns the positions of the entries that already existed
+    @Override
+    public Set<Integer> insertUnordered(String collectionName, List<?> entries) {
+        if (entries.isEmpty()) return Set.of();
+
+        try {
+            mongoTemplate
+                    .bulkOps(BulkOperations.BulkMode.UNORDERED, collectionName)
+                    .insert(entries)
+                    .execute();
+            return Set.of();
+        } catch (BulkOperationException e) {
+            List<BulkWriteError> errors = e.getErrors();
+            if (errors.stream().anyMatch(error -> ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY)) throw e;
+            return errors.stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+        }
+    }
+
+}
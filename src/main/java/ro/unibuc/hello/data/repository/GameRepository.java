@@ -1,18 +1,33 @@
 package ro.unibuc.hello.data.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 import ro.unibuc.hello.data.entity.GameEntity;
 
+import java.util.Collection;
 import java.util.List;
 
 import static ro.unibuc.hello.data.entity.GameEntity.Type;
 
 @Repository
-public interface GameRepository extends MongoRepository<GameEntity, String> {
+public interface GameRepository extends MongoRepository<GameEntity, String>, GameRepositoryCustom {
+
+    String SUMMARY_FIELDS = "{ 'developer': 0, 'baseGame': 0, 'dlcs': 0 }";
 
     GameEntity findByIdAndType(String id, Type type);
     GameEntity findByTitle(String title);
+
+    @Query(value = "{ 'type': ?0 }", fields = SUMMARY_FIELDS)
     List<GameEntity> findByType(Type type);
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = SUMMARY_FIELDS)
+    List<GameEntity> findSummariesByIdIn(Collection<String> ids);
+    @Query(
+            value = "{ 'title': { $gt: ?0 }, '_id': { $nin: ?1 } }",
+            fields = SUMMARY_FIELDS,
+            sort = "{ 'title': 1 }"
+    )
+    List<GameEntity> findByTitleAfter(String cursor, Collection<String> excludedIds, Limit limit);
 
 }
@@ -0,0 +1,21 @@
+package ro.unibuc.hello.data.repository;
+
+import ro.unibuc.hello.data.entity.GameEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface GameRepositoryCustom {
+
+    boolean reserveKey(String gameId);
+    void releaseKeys(Collection<String> gameIds);
+    void addKeys(String gameId, int keys);
+    void clearKeys(String gameId);
+    void deleteKeys(String gameId);
+    boolean hasKeys(String gameId);
+    List<GameEntity> loadKeys(List<GameEntity> games);
+    void addDlc(String baseGameId, GameEntity dlc);
+    GameEntity updateDetails(GameEntity game);
+    List<GameEntity> findSummariesByDeveloperId(String developerId, String cursor, int limit);
+
+}
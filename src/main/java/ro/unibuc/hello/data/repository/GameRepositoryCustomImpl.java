@@ -0,0 +1,201 @@
+package ro.unibuc.hello.data.repository;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.data.entity.GameStockEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+import static ro.unibuc.hello.data.entity.GameStockEntity.shardId;
+
+public class GameRepositoryCustomImpl implements GameRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final int stockShards;
+
+    public GameRepositoryCustomImpl(MongoTemplate mongoTemplate, @Value("${games.stock.shards:1}") int stockShards) {
+        if (stockShards < 1) throw new IllegalArgumentException("games.stock.shards must be at least 1!");
+        this.mongoTemplate = mongoTemplate;
+        this.stockShards = stockShards;
+    }
+
+    private boolean isStockSharded() {
+        return stockShards > 1;
+    }
+
+    private int randomShard() {
+        return ThreadLocalRandom.current().nextInt(stockShards);
+    }
+
+    private boolean takeKey(Criteria criteria, Class<?> entityClass) {
+        return mongoTemplate
+                .updateFirst(
+                        query(criteria.and("keys").gt(0)),
+                        new Update().inc("keys", -1),
+                        entityClass
+                )
+                .getModifiedCount() == 1;
+    }
+
+    private static Update incShard(String gameId, int shard, int keys) {
+        return new Update()
+                .inc("keys", keys)
+                .setOnInsert("gameId", gameId)
+                .setOnInsert("shard", shard);
+    }
+
+    private void spreadKeys(String gameId, int keys) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, GameStockEntity.class);
+        for (int shard = 0; shard < stockShards; shard++) {
+            int shardKeys = keys / stockShards + (shard < keys % stockShards ? 1 : 0);
+            operations.upsert(query(where("id").is(shardId(gameId, shard))), incShard(gameId, shard, shardKeys));
+        }
+        operations.execute();
+    }
+
+    private void drainKeys(String gameId) {
+        Query query = query(where("id").is(gameId).and("keys").gt(0));
+        query.fields().include("keys");
+        GameEntity game = mongoTemplate.findAndModify(query, new Update().set("keys", 0), GameEntity.class);
+        if (game != null) {
+            spreadKeys(gameId, game.getKeys());
+        }
+    }
+
+    // The last try follows the drain whether or not this checkout did it, another one may have just moved the keys
+    @Override
+    public boolean reserveKey(String gameId) {
+        if (!isStockSharded()) return takeKey(where("id").is(gameId), GameEntity.class);
+
+        if (takeKey(where("id").is(shardId(gameId, randomShard())), GameStockEntity.class)) return true;
+        if (takeKey(where("gameId").is(gameId), GameStockEntity.class)) return true;
+
+        drainKeys(gameId);
+        return takeKey(where("gameId").is(gameId), GameStockEntity.class);
+    }
+
+    @Override
+    public void releaseKeys(Collection<String> gameIds) {
+        if (gameIds.isEmpty()) return;
+
+        if (!isStockSharded()) {
+            mongoTemplate.updateMulti(
+                    query(where("id").in(gameIds)),
+                    new Update().inc("keys", 1),
+                    GameEntity.class
+            );
+            return;
+        }
+
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, GameStockEntity.class);
+        gameIds.forEach(gameId -> {
+            int shard = randomShard();
+            operations.upsert(query(where("id").is(shardId(gameId, shard))), incShard(gameId, shard, 1));
+        });
+        operations.execute();
+    }
+
+    @Override
+    public void addKeys(String gameId, int keys) {
+        if (isStockSharded()) {
+            spreadKeys(gameId, keys);
+        } else {
+            mongoTemplate.updateFirst(query(where("id").is(gameId)), new Update().inc("keys", keys), GameEntity.class);
+        }
+    }
+
+    @Override
+    public void clearKeys(String gameId) {
+        mongoTemplate.updateFirst(query(where("id").is(gameId)), new Update().set("keys", 0), GameEntity.class);
+        if (isStockSharded()) {
+            mongoTemplate.updateMulti(query(where("gameId").is(gameId)), new Update().set("keys", 0), GameStockEntity.class);
+        }
+    }
+
+    // Always run, the shards outlive a sharding that was turned off
+    @Override
+    public void deleteKeys(String gameId) {
+        mongoTemplate.remove(query(where("gameId").is(gameId)), GameStockEntity.class);
+    }
+
+    @Override
+    public boolean hasKeys(String gameId) {
+        return mongoTemplate.exists(query(where("id").is(gameId).and("keys").gt(0)), GameEntity.class)
+                || (isStockSharded() && mongoTemplate.exists(query(where("gameId").is(gameId).and("keys").gt(0)), GameStockEntity.class));
+    }
+
+    // Returns copies, the games may be shared by the catalog cache
+    @Override
+    public List<GameEntity> loadKeys(List<GameEntity> games) {
+        if (!isStockSharded() || games.isEmpty()) return games;
+
+        Map<String, Integer> shardKeys = mongoTemplate
+                .aggregate(sumShardKeys(games), GameStockEntity.class, Document.class)
+                .getMappedResults()
+                .stream()
+                .collect(Collectors.toMap(total -> total.getString("_id"), total -> total.get("keys", Number.class).intValue()));
+
+        return games.stream().map(game -> addShardKeys(game, shardKeys)).toList();
+    }
+
+    static Aggregation sumShardKeys(List<GameEntity> games) {
+        return newAggregation(
+                match(where("gameId").in(games.stream().map(GameEntity::getId).toList())),
+                group("gameId").sum("keys").as("keys")
+        );
+    }
+
+    static GameEntity addShardKeys(GameEntity game, Map<String, Integer> shardKeys) {
+        return game.withKeys((game.getKeys() == null ? 0 : game.getKeys()) + shardKeys.getOrDefault(game.getId(), 0));
+    }
+
+    @Override
+    public void addDlc(String baseGameId, GameEntity dlc) {
+        mongoTemplate.updateFirst(
+                query(where("id").is(baseGameId)),
+                new Update().push("dlcs", mongoTemplate.getConverter().toDBRef(dlc, null)),
+                GameEntity.class
+        );
+    }
+
+    @Override
+    public GameEntity updateDetails(GameEntity game) {
+        return mongoTemplate.findAndModify(
+                query(where("id").is(game.getId())),
+                new Update()
+                        .set("title", game.getTitle())
+                        .set("priceCents", game.getPriceCents())
+                        .set("discountPercentage", game.getDiscountPercentage()),
+                options().returnNew(true),
+                GameEntity.class
+        );
+    }
+
+    @Override
+    public List<GameEntity> findSummariesByDeveloperId(String developerId, String cursor, int limit) {
+        Query query = query(where("developer").is(developerId).and("title").gt(cursor))
+                .with(Sort.by("title"))
+                .limit(limit);
+        query.fields().exclude("developer", "baseGame", "dlcs");
+
+        return mongoTemplate.find(query, GameEntity.class);
+    }
+
+}
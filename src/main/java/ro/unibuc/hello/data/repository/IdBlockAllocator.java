@@ -0,0 +1,9 @@
+package ro.unibuc.hello.data.repository;
+
+public interface IdBlockAllocator {
+
+    long allocate(String key, int blockSize);
+    // Never moves the counter back
+    void reserve(String key, long floor);
+
+}
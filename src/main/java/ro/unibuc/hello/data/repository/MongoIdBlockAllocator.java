@@ -0,0 +1,46 @@
+package ro.unibuc.hello.data.repository;
+
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Repository
+@ConditionalOnProperty(name = "database.ids.allocator", havingValue = "mongo")
+public class MongoIdBlockAllocator implements IdBlockAllocator {
+
+    private static final String COLLECTION = "counters";
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoIdBlockAllocator(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public long allocate(String key, int blockSize) {
+        Document counter = mongoTemplate.findAndModify(
+                query(where("_id").is(key)),
+                new Update().inc("next", (long) blockSize),
+                options().upsert(true).returnNew(true),
+                Document.class,
+                COLLECTION
+        );
+        return counter.getLong("next") - blockSize;
+    }
+
+    @Override
+    public void reserve(String key, long floor) {
+        mongoTemplate.upsert(
+                query(where("_id").is(key)),
+                new Update().max("next", floor),
+                COLLECTION
+        );
+    }
+
+}
@@ -0,0 +1,33 @@
+package ro.unibuc.hello.data.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ro.unibuc.hello.data.entity.GameEntity;
+
+import java.util.Collection;
+
+import static ro.unibuc.hello.data.entity.GameEntity.Type;
+import static ro.unibuc.hello.data.repository.GameRepository.SUMMARY_FIELDS;
+
+// The reactive template can't resolve references without blocking, so every read leaves them out
+@Repository
+public interface ReactiveGameRepository extends ReactiveMongoRepository<GameEntity, String>, ReactiveGameRepositoryCustom {
+
+    @Query(value = "{ 'type': ?0 }", fields = SUMMARY_FIELDS)
+    Flux<GameEntity> findByType(Type type);
+    @Query(value = "{ '_id': ?0 }", fields = SUMMARY_FIELDS)
+    Mono<GameEntity> findSummaryById(String id);
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = SUMMARY_FIELDS)
+    Flux<GameEntity> findSummariesByIdIn(Collection<String> ids);
+    @Query(
+            value = "{ 'title': { $gt: ?0 }, '_id': { $nin: ?1 } }",
+            fields = SUMMARY_FIELDS,
+            sort = "{ 'title': 1 }"
+    )
+    Flux<GameEntity> findByTitleAfter(String cursor, Collection<String> excludedIds, Limit limit);
+
+}
@@ -0,0 +1,11 @@
+package ro.unibuc.hello.data.repository;
+
+import reactor.core.publisher.Flux;
+import ro.unibuc.hello.data.entity.GameEntity;
+
+public interface ReactiveGameRepositoryCustom {
+
+    Flux<String> findDlcIds(String gameId);
+    Flux<GameEntity> loadKeys(Flux<GameEntity> games);
+
+}
@@ -0,0 +1,55 @@
+package ro.unibuc.hello.data.repository;
+
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.data.entity.GameStockEntity;
+
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+import static ro.unibuc.hello.data.repository.GameRepositoryCustomImpl.addShardKeys;
+import static ro.unibuc.hello.data.repository.GameRepositoryCustomImpl.sumShardKeys;
+
+public class ReactiveGameRepositoryCustomImpl implements ReactiveGameRepositoryCustom {
+
+    private static final int KEYS_BATCH_SIZE = 100;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    private final int stockShards;
+
+    public ReactiveGameRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate, @Value("${games.stock.shards:1}") int stockShards) {
+        this.mongoTemplate = mongoTemplate;
+        this.stockShards = stockShards;
+    }
+
+    @Override
+    public Flux<String> findDlcIds(String gameId) {
+        Query query = query(where("_id").is(gameId));
+        query.fields().include("dlcs");
+
+        return mongoTemplate
+                .findOne(query, Document.class, mongoTemplate.getCollectionName(GameEntity.class))
+                .flatMapIterable(game -> game.getList("dlcs", DBRef.class, List.of()))
+                .map(dlc -> String.valueOf(dlc.getId()));
+    }
+
+    @Override
+    public Flux<GameEntity> loadKeys(Flux<GameEntity> games) {
+        if (stockShards <= 1) return games;
+
+        return games
+                .buffer(KEYS_BATCH_SIZE)
+                .concatMap(batch -> mongoTemplate
+                        .aggregate(sumShardKeys(batch), GameStockEntity.class, Document.class)
+                        .collectMap(total -> total.getString("_id"), total -> total.get("keys", Number.class).intValue())
+                        .flatMapIterable(shardKeys -> batch.stream().map(game -> addShardKeys(game, shardKeys)).toList()));
+    }
+
+}
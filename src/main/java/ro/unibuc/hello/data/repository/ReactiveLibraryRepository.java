@@ -0,0 +1,20 @@
+package ro.unibuc.hello.data.repository;
+
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.ReadPreference;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import ro.unibuc.hello.data.entity.LibraryEntity;
+
+import static ro.unibuc.hello.utils.DatabaseUtils.CompositeKey;
+
+@Repository
+public interface ReactiveLibraryRepository extends ReactiveMongoRepository<LibraryEntity, CompositeKey> {
+
+    // A customer must see their purchases at once
+    @ReadPreference("primary")
+    @Query(value = "{ '_id.customerId': ?0 }", fields = "{ '_id': 1 }")
+    Flux<LibraryEntity> findById_CustomerId(String customerId);
+
+}
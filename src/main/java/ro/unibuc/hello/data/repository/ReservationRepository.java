@@ -0,0 +1,23 @@
+package ro.unibuc.hello.data.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+import ro.unibuc.hello.data.entity.ReservationEntity;
+
+import java.util.Date;
+import java.util.List;
+
+import static ro.unibuc.hello.utils.DatabaseUtils.CompositeKey;
+
+// The deletes return how many holds they removed: only the caller that removes a hold may give its key back
+@Repository
+public interface ReservationRepository extends MongoRepository<ReservationEntity, CompositeKey> {
+
+    List<ReservationEntity> findById_CustomerId(String customerId);
+    List<ReservationEntity> findByExpiresAtBefore(Date date, Limit limit);
+    long deleteById_GameIdAndId_CustomerId(String gameId, String customerId);
+    long deleteById_GameIdAndId_CustomerIdAndExpiresAtBefore(String gameId, String customerId, Date date);
+    void deleteById_GameId(String gameId);
+
+}
@@ -16,6 +16,7 @@ public interface UserRepository extends MongoRepository<UserEntity, String> {
     List<UserEntity> findByRole(Role role);
     List<UserEntity> findAllByRole(Role role);
     UserEntity findByIdAndRole(String id, Role role);
+    boolean existsByIdAndRole(String id, Role role);
     UserEntity findByDetailsStudio(String studio);
 
 }
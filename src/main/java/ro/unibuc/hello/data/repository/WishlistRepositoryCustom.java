@@ -0,0 +1,9 @@
+package ro.unibuc.hello.data.repository;
+
+import java.util.List;
+
+public interface WishlistRepositoryCustom {
+
+    List<String> findGameIdsToMoveToCart(String customerId);
+
+}
@@ -0,0 +1,61 @@
+package ro.unibuc.hello.data.repository;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.aggregation.AccumulatorOperators.Sum.sumOf;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.aggregation.ArithmeticOperators.Add.valueOf;
+import static org.springframework.data.mongodb.core.aggregation.ConvertOperators.Convert.convertValueOf;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class WishlistRepositoryCustomImpl implements WishlistRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final int stockShards;
+
+    public WishlistRepositoryCustomImpl(MongoTemplate mongoTemplate, @Value("${games.stock.shards:1}") int stockShards) {
+        this.mongoTemplate = mongoTemplate;
+        this.stockShards = stockShards;
+    }
+
+    // The library and cart entries of a game share the composite _id of its wishlist entry
+    @Override
+    public List<String> findGameIdsToMoveToCart(String customerId) {
+        List<AggregationOperation> operations = new ArrayList<>(List.of(
+                match(where("_id.customerId").is(customerId)),
+                addFields()
+                        .addFieldWithValue("gameId", convertValueOf("_id.gameId")
+                                .to("objectId")
+                                .onErrorReturnValueOf("_id.gameId"))
+                        .build(),
+                lookup().from("games").localField("gameId").foreignField("_id").pipeline(project("keys")).as("game"),
+                unwind("game")
+        ));
+        if (stockShards > 1) {
+            operations.add(lookup().from("game_stock").localField("_id.gameId").foreignField("gameId").pipeline(project("keys")).as("stock"));
+            operations.add(addFields().addFieldWithValue("game.keys", valueOf("game.keys").add(sumOf("stock.keys"))).build());
+        }
+        operations.addAll(List.of(
+                match(where("game.keys").gt(0)),
+                lookup().from("library").localField("_id").foreignField("_id").pipeline(project("_id")).as("owned"),
+                lookup().from("cart").localField("_id").foreignField("_id").pipeline(project("_id")).as("carted"),
+                match(where("owned").size(0).and("carted").size(0)),
+                project("_id")
+        ));
+
+        return mongoTemplate
+                .aggregate(newAggregation(operations), "wishlist", Document.class)
+                .getMappedResults()
+                .stream()
+                .map(entry -> entry.get("_id", Document.class).getString("gameId"))
+                .toList();
+    }
+
+}
@@ -0,0 +1,40 @@
+package ro.unibuc.hello.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import ro.unibuc.hello.exception.ValidationException;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchResult {
+
+    public static final int MAX_BATCH_SIZE = 500;
+
+    private String gameId;
+    private Boolean added;
+    private String error;
+
+    public static void validateBatch(List<String> gameIds) {
+        if (gameIds == null || gameIds.isEmpty() || gameIds.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("A batch must have between 1 and %d game ids!", MAX_BATCH_SIZE);
+        }
+        if (gameIds.stream().anyMatch(gameId -> gameId == null || gameId.isBlank())) {
+            throw new ValidationException("Game ids cannot be blank!");
+        }
+    }
+
+    public static BatchResult added(String gameId) {
+        return new BatchResult(gameId, true, null);
+    }
+
+    public static BatchResult rejected(String gameId, String template, Object... args) {
+        return new BatchResult(gameId, false, String.format(template, args));
+    }
+
+}
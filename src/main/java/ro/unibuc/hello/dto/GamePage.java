@@ -0,0 +1,40 @@
+package ro.unibuc.hello.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.exception.ValidationException;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class GamePage {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private List<GameEntity> items;
+    private String nextCursor;
+
+    public static void validateLimit(Integer limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException("The page size must be between 1 and %d!", MAX_PAGE_SIZE);
+        }
+    }
+
+    public static GamePage of(List<GameEntity> items, Integer limit, Function<GameEntity, String> cursorOf) {
+        String nextCursor = items.size() == limit
+                ? cursorOf.apply(items.get(limit - 1))
+                : null;
+
+        return new GamePage(items, nextCursor);
+    }
+
+    public static GamePage of(List<GameEntity> items, Integer limit) {
+        return of(items, limit, GameEntity::getTitle);
+    }
+
+}
@@ -5,7 +5,11 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ro.unibuc.hello.dto.ErrorString;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import static ro.unibuc.hello.utils.ResponseUtils.badRequest;
+import static ro.unibuc.hello.utils.ResponseUtils.conflict;
+import static ro.unibuc.hello.utils.ResponseUtils.serviceUnavailable;
 import static ro.unibuc.hello.utils.ResponseUtils.unauthorized;
 
 @RestControllerAdvice
@@ -26,4 +30,14 @@ public class GlobalExceptionHandler {
         return unauthorized();
     }
 
+    @ExceptionHandler(TransactionConflictException.class)
+    public ResponseEntity<ErrorString> handleTransactionConflict() {
+        return conflict("The request conflicted with other updates, please try again");
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorString> handleRejectedExecution() {
+        return serviceUnavailable("The server is busy, please try again later");
+    }
+
 }
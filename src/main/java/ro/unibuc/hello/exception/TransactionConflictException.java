@@ -0,0 +1,8 @@
+package ro.unibuc.hello.exception;
+
+public class TransactionConflictException extends RuntimeException {
+
+    public TransactionConflictException(int attempts, Throwable cause) {
+        super(String.format("The transaction still conflicted after %d attempts", attempts), cause);
+    }
+}
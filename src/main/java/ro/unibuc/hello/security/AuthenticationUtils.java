@@ -1,16 +1,18 @@
 package ro.unibuc.hello.security;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
 import lombok.Setter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import ro.unibuc.hello.data.entity.UserEntity;
 import ro.unibuc.hello.data.repository.UserRepository;
 import ro.unibuc.hello.exception.UnauthorizedAccessException;
-
-import java.util.Optional;
+import ro.unibuc.hello.security.jwt.JWTAuthenticationToken;
 
 import static ro.unibuc.hello.data.entity.UserEntity.Role;
 
@@ -19,34 +21,49 @@ public class AuthenticationUtils {
 
     @Setter
     private static UserRepository userRepository;
-    private static final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(12);
+    @Setter
+    private static PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(12);
+    private static final Counter userLookups = Metrics.counter("auth.user.lookups");
 
     @Autowired
-    public AuthenticationUtils(UserRepository userRepository) {
+    public AuthenticationUtils(UserRepository userRepository, PasswordEncoder passwordEncoder) {
         AuthenticationUtils.userRepository = userRepository;
+        AuthenticationUtils.passwordEncoder = passwordEncoder;
     }
 
     public static String encryptPassword(String password) {
         return passwordEncoder.encode(password);
     }
 
+    private static UserEntity findUser(String userId) {
+        userLookups.increment();
+        return userRepository
+                .findById(userId)
+                .orElseThrow(UnauthorizedAccessException::new);
+    }
+
     public static UserEntity getUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JWTAuthenticationToken token) {
+            if (token.getUser() == null) token.setUser(findUser((String) token.getPrincipal()));
+            return token.getUser();
+        }
         if (authentication != null && authentication.getPrincipal() instanceof String userId) {
-            Optional<UserEntity> user = userRepository.findById(userId);
-            if (user.isEmpty()) throw new UnauthorizedAccessException();
-            return user.get();
+            return findUser(userId);
         }
         throw new UnauthorizedAccessException();
     }
 
     public static UserEntity getAuthorizedUser(Role role) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getPrincipal() instanceof String userId) {
-            UserEntity user = userRepository.findByIdAndRole(userId, role);
-            if (user != null) return user;
+        UserEntity user = getUser();
+        if (user.getRole() != role) throw new UnauthorizedAccessException();
+        return user;
+    }
+
+    public static void evictUser() {
+        if (SecurityContextHolder.getContext().getAuthentication() instanceof JWTAuthenticationToken token) {
+            token.evictUser();
         }
-        throw new UnauthorizedAccessException();
     }
 
     public static boolean isPasswordValid(String providedPassword, String actualPassword) {
@@ -0,0 +1,66 @@
+package ro.unibuc.hello.security;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final Executor executor;
+
+    @Autowired
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            @Value("${security.password.hash-threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+            @Value("${security.password.hash-queue-capacity:100}") int queueCapacity
+    ) {
+        this(passwordEncoder, ExecutorServiceMetrics.monitor(
+                Metrics.globalRegistry,
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        new CustomizableThreadFactory("password-hash-")
+                ),
+                "password.hash"
+        ));
+    }
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, Executor executor) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return supply(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return supply(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+}
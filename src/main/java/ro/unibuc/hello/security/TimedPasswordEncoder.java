@@ -0,0 +1,33 @@
+package ro.unibuc.hello.security;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private static final Timer encodeTimer = Metrics.timer("auth.password.hash", "operation", "encode");
+    private static final Timer matchesTimer = Metrics.timer("auth.password.hash", "operation", "matches");
+
+    private final PasswordEncoder delegate;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return Boolean.TRUE.equals(matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+}
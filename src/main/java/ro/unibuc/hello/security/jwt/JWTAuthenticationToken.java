@@ -1,7 +1,9 @@
 package ro.unibuc.hello.security.jwt;
 
+import lombok.Getter;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import ro.unibuc.hello.data.entity.UserEntity;
 
 import java.util.Collection;
 import java.util.List;
@@ -11,11 +13,26 @@ public class JWTAuthenticationToken implements Authentication {
     final private String userId;
     private boolean authenticated;
 
+    @Getter
+    private UserEntity user;
+
+    @Getter
+    private int userLookups;
+
     public JWTAuthenticationToken(String userId) {
         this.userId = userId;
         this.authenticated = true;
     }
 
+    public void setUser(UserEntity user) {
+        this.user = user;
+        this.userLookups++;
+    }
+
+    public void evictUser() {
+        this.user = null;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of();
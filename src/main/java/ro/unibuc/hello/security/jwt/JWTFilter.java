@@ -1,12 +1,13 @@
 package ro.unibuc.hello.security.jwt;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -16,6 +17,8 @@ import java.io.IOException;
 @Component
 public class JWTFilter extends OncePerRequestFilter {
 
+    private static final DistributionSummary userLookupsPerRequest = Metrics.summary("auth.user.lookups.per.request");
+
     @Autowired
     private JWTService jwtService;
 
@@ -23,6 +26,7 @@ public class JWTFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
         // Get Auth Header
         String authHeader = request.getHeader("Authorization");
+        JWTAuthenticationToken authentication = null;
 
         // Verify JWT Token
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
@@ -31,12 +35,16 @@ public class JWTFilter extends OncePerRequestFilter {
 
             // Store userId in Security Context
             if (userId != null) {
-                Authentication authentication = new JWTAuthenticationToken(userId);
+                authentication = new JWTAuthenticationToken(userId);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }
 
         filterChain.doFilter(request, response);
+
+        if (authentication != null) {
+            userLookupsPerRequest.record(authentication.getUserLookups());
+        }
     }
 
 }
@@ -1,44 +1,87 @@
 package ro.unibuc.hello.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
 
 @Service
 public class JWTService {
 
-    private final String secretKey;
+    private final SecretKey secretKey;
+
+    private final JwtParser parser;
+
+    // Verified tokens -> userId, keyed by the token hash so the raw tokens are never kept in memory
+    private final Cache<String, String> verifiedTokens;
 
     @Autowired
-    public JWTService(@Value("${security.jwt.secret-key}") String secretKey) {
-        this.secretKey = secretKey;
+    public JWTService(
+            @Value("${security.jwt.secret-key}") String secretKey,
+            @Value("${security.jwt.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${security.jwt.cache.ttl:PT5M}") Duration cacheTtl
+    ) {
+        this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts
+            .parser()
+            .verifyWith(this.secretKey)
+            .build();
+        this.verifiedTokens = Caffeine
+            .newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfterWrite(cacheTtl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, verifiedTokens, "jwt.tokens");
     }
 
-    private SecretKey getSecretKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+    private static String hash(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                MessageDigest
+                    .getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8))
+            );
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public String getToken(String id) {
         return Jwts
             .builder()
             .claim("userId", id)
-            .signWith(getSecretKey())
+            .signWith(secretKey)
             .compact();
     }
 
-    public String extractUserId(String token) {
-        return Jwts
-            .parser()
-            .verifyWith(getSecretKey())
-            .build()
+    private String verifyUserId(String token) {
+        return parser
             .parseSignedClaims(token)
             .getPayload()
             .get("userId", String.class);
     }
 
+    public String extractUserId(String token) {
+        return verifiedTokens.get(hash(token), ignored -> verifyUserId(token));
+    }
+
+    Cache<String, String> getVerifiedTokens() {
+        return verifiedTokens;
+    }
+
 }
@@ -1,16 +1,22 @@
 package ro.unibuc.hello.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import ro.unibuc.hello.data.entity.UserEntity;
 import ro.unibuc.hello.data.repository.UserRepository;
 import ro.unibuc.hello.dto.*;
 import ro.unibuc.hello.exception.ValidationException;
-import ro.unibuc.hello.security.AuthenticationUtils;
+import ro.unibuc.hello.security.PasswordHasher;
 import ro.unibuc.hello.security.jwt.JWTService;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME;
 import static ro.unibuc.hello.data.entity.UserEntity.Role;
 import static ro.unibuc.hello.data.entity.UserEntity.UserDetails;
+import static ro.unibuc.hello.data.entity.UserEntity.withEncodedPassword;
 import static ro.unibuc.hello.utils.ValidationUtils.exists;
 
 @Service
@@ -28,56 +34,75 @@ public class AuthenticationService {
     @Autowired
     private JWTService jwtService;
 
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    @Qualifier(APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private Executor taskExecutor;
+
+    private static final String INVALID_CREDENTIALS = "Invalid username or password";
+
     private void validateSignUp(User user) {
         exists("Username", user.getUsername());
         exists("Password", user.getPassword());
         exists("Email", user.getEmail());
     }
 
-    public Token login(Credentials credentials) {
+    public CompletableFuture<Token> login(Credentials credentials) {
         exists("Username", credentials.getUsername());
         exists("Password", credentials.getPassword());
 
         UserEntity user = userRepository.findByUsername(credentials.getUsername());
+        if (user == null) throw new ValidationException(INVALID_CREDENTIALS);
+
+        return passwordHasher
+                .matches(credentials.getPassword(), user.getPassword())
+                .thenApplyAsync(valid -> {
+                    if (!valid) throw new ValidationException(INVALID_CREDENTIALS);
+                    return new Token(jwtService.getToken(user.getId()));
+                }, taskExecutor);
+    }
 
-        if (user != null && AuthenticationUtils.isPasswordValid(credentials.getPassword(), user.getPassword())) {
-            return new Token(jwtService.getToken(user.getId()));
-        }
-
-        throw new ValidationException("Invalid username or password");
+    private CompletableFuture<UserEntity> signup(User user, Role role, UserDetails details) {
+        return passwordHasher
+                .encode(user.getPassword())
+                .thenApplyAsync(encodedPassword -> userRepository.save(withEncodedPassword(
+                        user.getUsername(),
+                        encodedPassword,
+                        user.getEmail(),
+                        role,
+                        details
+                )), taskExecutor);
     }
 
-    public UserEntity signupDeveloper(Developer developer) {
+    public CompletableFuture<UserEntity> signupDeveloper(Developer developer) {
         validateSignUp(developer);
         exists("Studio", developer.getStudio());
         developerService.validateUser(developer);
 
-        return userRepository.save(new UserEntity(
-                developer.getUsername(),
-                developer.getPassword(),
-                developer.getEmail(),
+        return signup(
+                developer,
                 Role.DEVELOPER,
                 UserDetails.forDeveloper(
                         developer.getStudio(),
                         developer.getWebsite()
                 )
-        ));
+        );
     }
 
-    public UserEntity signupCustomer(Customer customer) {
+    public CompletableFuture<UserEntity> signupCustomer(Customer customer) {
         validateSignUp(customer);
         customerService.validateUser(customer);
 
-        return userRepository.save(new UserEntity(
-                customer.getUsername(),
-                customer.getPassword(),
-                customer.getEmail(),
+        return signup(
+                customer,
                 Role.CUSTOMER,
                 UserDetails.forCustomer(
                         customer.getFirstName(),
                         customer.getLastName()
                 )
-        ));
+        );
     }
 
 }
@@ -1,6 +1,7 @@
 package ro.unibuc.hello.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import ro.unibuc.hello.annotation.CustomerOnly;
 import ro.unibuc.hello.data.entity.CartEntity;
@@ -10,16 +11,22 @@ import ro.unibuc.hello.data.repository.CartRepository;
 import ro.unibuc.hello.data.repository.GameRepository;
 import ro.unibuc.hello.data.repository.LibraryRepository;
 import ro.unibuc.hello.data.repository.WishlistRepository;
+import ro.unibuc.hello.dto.BatchResult;
 import ro.unibuc.hello.dto.CartInfo;
 import ro.unibuc.hello.exception.ValidationException;
+import ro.unibuc.hello.utils.TransactionRunner;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isActualTransactionActive;
 import static ro.unibuc.hello.data.entity.CartEntity.buildCartEntry;
 import static ro.unibuc.hello.data.entity.GameEntity.*;
 import static ro.unibuc.hello.data.entity.LibraryEntity.buildLibraryEntry;
+import static ro.unibuc.hello.dto.BatchResult.validateBatch;
 import static ro.unibuc.hello.security.AuthenticationUtils.getUser;
-import static ro.unibuc.hello.utils.DatabaseUtils.CompositeKey.build;
 import static ro.unibuc.hello.utils.ValidationUtils.validate;
 
 @Service
@@ -43,8 +50,14 @@ public class CartService {
     @Autowired
     private GameService gameService;
 
+    @Autowired
+    private TransactionRunner transactionRunner;
+
+    @Autowired
+    private ReservationService reservationService;
+
     private CartInfo getCartByCustomerId(String customerId) {
-        List<GameEntity> games = cartRepository.getGamesByCustomer(customerService.getCustomer(customerId));
+        List<GameEntity> games = gameRepository.loadKeys(cartRepository.getGamesByCustomer(customerService.getCustomer(customerId)));
         return new CartInfo(totalPrice(games), games);
     }
 
@@ -53,25 +66,44 @@ public class CartService {
         return getCartByCustomerId(getUser().getId());
     }
 
+    private List<String> reserveKeys(List<GameEntity> games, UserEntity customer) {
+        List<String> reservedGameIds = new ArrayList<>();
+        for (GameEntity game : games) {
+            boolean held = reservationService.isEnabled() && reservationService.consume(game.getId(), customer.getId());
+            if (!held && !gameRepository.reserveKey(game.getId())) {
+                gameRepository.releaseKeys(reservedGameIds);
+                throw new ValidationException("There are no more keys for %s, please remove it from the cart!", game.getTitle());
+            }
+            reservedGameIds.add(game.getId());
+        }
+        return reservedGameIds;
+    }
+
     @CustomerOnly
-    public synchronized void checkout() {
+    public void checkout() {
         UserEntity customer = getUser();
-        List<GameEntity> games = cartRepository.getGamesByCustomer(customer);
 
-        games.forEach(GameEntity::decreaseNoKeys);
-        games.forEach(game -> {
-            gameRepository.save(game);
-            customer.getGames().add(game);
+        transactionRunner.run(() -> {
+            List<GameEntity> games = cartRepository.getGamesByCustomer(customer);
+
+            List<String> reservedGameIds = reserveKeys(games, customer);
+            try {
+                libraryRepository.insert(
+                        games.stream()
+                                .map(game -> buildLibraryEntry(game, customer))
+                                .toList()
+                );
+                wishlistRepository.deleteById_CustomerIdAndId_GameIdIn(
+                        customer.getId(),
+                        games.stream().map(GameEntity::getId).toList()
+                );
+                cartRepository.deleteById_CustomerId(customer.getId());
+            } catch (RuntimeException e) {
+                // Without a transaction a concurrent checkout of the same cart fails here on the library insert
+                if (!isActualTransactionActive()) gameRepository.releaseKeys(reservedGameIds);
+                throw e;
+            }
         });
-        games.forEach(game -> libraryRepository.save(
-                buildLibraryEntry(
-                        game,
-                        customer
-                )
-        ));
-        games.forEach(game -> wishlistRepository.deleteById(build(game, getUser())));
-
-        removeAllFromCart();
     }
 
     @CustomerOnly
@@ -82,31 +114,80 @@ public class CartService {
         validate(
                 game.getTitle(),
                 gameId,
-                notInCart(cartRepository.getGamesByCustomer(customer))
-                .and(notInLibrary(libraryRepository.getGamesByCustomer(customer)))
+                notInCart(id -> cartRepository.containsGame(customer, id))
+                .and(notInLibrary(id -> libraryRepository.containsGame(customer, id)))
         );
-        if (game.getKeys() == 0) throw new ValidationException("%s is not in stock!", game.getTitle());
 
-        return cartRepository.save(
-            buildCartEntry(
-                 game,
-                 customer
-            )
+        return addToCart(game, customer);
+    }
+
+    public CartEntity addToCart(GameEntity game, UserEntity customer) {
+        boolean inStock = reservationService.isEnabled()
+                ? reservationService.hold(game.getId(), customer.getId())
+                : gameService.isInStock(game.getId());
+        if (!inStock) throw new ValidationException("%s is not in stock!", game.getTitle());
+
+        try {
+            return cartRepository.insert(
+                buildCartEntry(
+                     game,
+                     customer
+                )
+            );
+        } catch (DuplicateKeyException e) {
+            if (reservationService.isEnabled()) gameRepository.releaseKeys(List.of(game.getId()));
+            throw new ValidationException("%s already in cart", game.getTitle());
+        }
+    }
+
+    @CustomerOnly
+    public List<BatchResult> addAllToCart(List<String> gameIds) {
+        UserEntity customer = getUser();
+        validateBatch(gameIds);
+
+        GameBatch batch = new GameBatch(gameIds, gameService.getGames(gameIds));
+        Set<String> cart = new HashSet<>(cartRepository.getGameIdsByCustomer(customer, gameIds));
+        Set<String> library = new HashSet<>(libraryRepository.getGameIdsByCustomer(customer, gameIds));
+        batch.validate(notInCart(cart::contains).and(notInLibrary(library::contains)));
+        batch.validate(
+                game -> reservationService.isEnabled()
+                        ? reservationService.hold(game.getId(), customer.getId())
+                        : game.getKeys() > 0,
+                "%s is not in stock!"
         );
+
+        // Both requests took a key for the single hold they wrote, the extra one goes back
+        List<GameEntity> games = batch.getGames();
+        List<String> duplicateGameIds = cartRepository
+                .insertUnordered(games.stream().map(game -> buildCartEntry(game, customer)).toList())
+                .stream()
+                .map(index -> {
+                    GameEntity game = games.get(index);
+                    batch.reject(game, "%s already in cart");
+                    return game.getId();
+                })
+                .toList();
+        if (reservationService.isEnabled()) gameRepository.releaseKeys(duplicateGameIds);
+
+        return batch.getResults();
     }
 
     @CustomerOnly
     public void removeFromCart(String gameId) {
+        UserEntity customer = getUser();
         cartRepository.delete(
             buildCartEntry(
                 gameService.getGame(gameId),
-                getUser()
+                customer
             )
         );
+        if (reservationService.isEnabled()) reservationService.release(gameId, customer.getId());
     }
 
     @CustomerOnly
     public void removeAllFromCart() {
-        cartRepository.deleteById_CustomerId(getUser().getId());
+        String customerId = getUser().getId();
+        cartRepository.deleteById_CustomerId(customerId);
+        if (reservationService.isEnabled()) reservationService.releaseAll(customerId);
     }
 }
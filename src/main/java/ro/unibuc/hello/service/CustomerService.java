@@ -1,12 +1,19 @@
 package ro.unibuc.hello.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import ro.unibuc.hello.annotation.CustomerOnly;
+import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
+import ro.unibuc.hello.data.repository.GameRepository;
+import ro.unibuc.hello.data.repository.LibraryRepository;
 import ro.unibuc.hello.dto.Customer;
 import ro.unibuc.hello.dto.User;
 import ro.unibuc.hello.security.AuthenticationUtils;
 
+import java.util.List;
+import java.util.function.Function;
+
 import static ro.unibuc.hello.data.entity.UserEntity.Role;
 import static ro.unibuc.hello.utils.ValidationUtils.validate;
 import static ro.unibuc.hello.utils.ValidationUtils.validateAndUpdate;
@@ -14,11 +21,27 @@ import static ro.unibuc.hello.utils.ValidationUtils.validateAndUpdate;
 @Service
 public class CustomerService extends UserService<Customer> {
 
+    @Autowired
+    private LibraryRepository libraryRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
     @Override
     protected Role getRole() {
         return Role.CUSTOMER;
     }
 
+    @Override
+    protected List<GameEntity> findGames(String userId, String cursor, Integer limit) {
+        return gameRepository.loadKeys(libraryRepository.getGamesByCustomerId(userId, cursor, limit));
+    }
+
+    @Override
+    protected Function<GameEntity, String> getCursor() {
+        return GameEntity::getId;
+    }
+
     @Override
     protected void validateDetails(User user) {
         Customer customer = (Customer) user;
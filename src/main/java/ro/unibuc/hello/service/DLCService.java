@@ -24,12 +24,12 @@ public class DLCService extends GameService {
 
     @DeveloperOnly
     public GameEntity createDLC(String baseGameId, Game dlcInput) {
-        GameEntity baseGame = gameService.getGame(baseGameId);
+        GameEntity baseGame = gameService.loadGame(baseGameId);
         dlcInput.setBaseGame(baseGame);
 
         GameEntity dlc = createGame(dlcInput);
-        baseGame.getDlcs().add(dlc);
-        gameRepository.save(baseGame);
+        gameRepository.addDlc(baseGameId, dlc);
+        gameCatalogCache.invalidate(baseGameId);
 
         return dlc;
     }
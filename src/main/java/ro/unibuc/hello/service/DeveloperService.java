@@ -1,23 +1,36 @@
 package ro.unibuc.hello.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import ro.unibuc.hello.annotation.DeveloperOnly;
+import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
+import ro.unibuc.hello.data.repository.GameRepository;
 import ro.unibuc.hello.dto.Developer;
 import ro.unibuc.hello.dto.User;
 import ro.unibuc.hello.security.AuthenticationUtils;
 
+import java.util.List;
+
 import static ro.unibuc.hello.data.entity.UserEntity.Role;
 import static ro.unibuc.hello.utils.ValidationUtils.*;
 
 @Service
 public class DeveloperService extends UserService<Developer> {
 
+    @Autowired
+    private GameRepository gameRepository;
+
     @Override
     protected Role getRole() {
         return Role.DEVELOPER;
     }
 
+    @Override
+    protected List<GameEntity> findGames(String userId, String cursor, Integer limit) {
+        return gameRepository.loadKeys(gameRepository.findSummariesByDeveloperId(userId, cursor, limit));
+    }
+
     @Override
     protected void validateDetails(User user) {
         Developer developer = (Developer) user;
@@ -0,0 +1,61 @@
+package ro.unibuc.hello.service;
+
+import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.dto.BatchResult;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static ro.unibuc.hello.dto.BatchResult.added;
+import static ro.unibuc.hello.dto.BatchResult.rejected;
+import static ro.unibuc.hello.utils.ValidationUtils.ValidationRule;
+
+final class GameBatch {
+
+    private final Map<String, BatchResult> results = new LinkedHashMap<>();
+
+    private final Map<String, GameEntity> games = new LinkedHashMap<>();
+
+    GameBatch(List<String> gameIds, Map<String, GameEntity> foundGames) {
+        for (String gameId : gameIds) {
+            if (results.containsKey(gameId)) continue;
+
+            GameEntity game = foundGames.get(gameId);
+            if (game == null) {
+                results.put(gameId, rejected(gameId, "No game found at id %s!", gameId));
+            } else {
+                results.put(gameId, added(gameId));
+                games.put(gameId, game);
+            }
+        }
+    }
+
+    void reject(GameEntity game, String template) {
+        results.put(game.getId(), rejected(game.getId(), template, game.getTitle()));
+        games.remove(game.getId());
+    }
+
+    void validate(ValidationRule<String> rule) {
+        getGames().forEach(game -> {
+            String error = rule.validate(game.getId());
+            if (error != null) reject(game, error);
+        });
+    }
+
+    void validate(Predicate<GameEntity> isValid, String template) {
+        getGames().forEach(game -> {
+            if (!isValid.test(game)) reject(game, template);
+        });
+    }
+
+    List<GameEntity> getGames() {
+        return List.copyOf(games.values());
+    }
+
+    List<BatchResult> getResults() {
+        return List.copyOf(results.values());
+    }
+
+}
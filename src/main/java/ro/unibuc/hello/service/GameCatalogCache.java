@@ -0,0 +1,74 @@
+package ro.unibuc.hello.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ro.unibuc.hello.data.entity.GameEntity;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// The entries are shared, they must never be mutated
+@Component
+public class GameCatalogCache {
+
+    private final Cache<String, GameEntity> games;
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Autowired
+    public GameCatalogCache(
+            @Value("${games.cache.max-size:10000}") long maxSize,
+            @Value("${games.cache.ttl:PT1M}") Duration ttl
+    ) {
+        this.games = Caffeine
+                .newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, games, "games.catalog");
+    }
+
+    // Invalidations count up before removing, so a load that overlapped one either sees the count change or is removed
+    public GameEntity get(String gameId, Function<String, GameEntity> loader) {
+        GameEntity game = games.getIfPresent(gameId);
+        if (game == null) {
+            long invalidationsBefore = invalidations.get();
+            game = loader.apply(gameId);
+            if (game != null) {
+                games.put(gameId, game);
+                if (invalidations.get() != invalidationsBefore) {
+                    games.asMap().remove(gameId, game);
+                }
+            }
+        }
+        return game;
+    }
+
+    public void invalidate(String gameId) {
+        invalidations.incrementAndGet();
+        games.invalidate(gameId);
+    }
+
+    public void invalidateAll(Collection<String> gameIds) {
+        invalidations.incrementAndGet();
+        games.invalidateAll(gameIds);
+    }
+
+    public void clear() {
+        invalidations.incrementAndGet();
+        games.invalidateAll();
+    }
+
+    Cache<String, GameEntity> getGames() {
+        return games;
+    }
+
+}
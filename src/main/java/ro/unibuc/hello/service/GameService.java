@@ -10,9 +10,8 @@ import ro.unibuc.hello.dto.Game;
 import ro.unibuc.hello.exception.NotFoundException;
 import ro.unibuc.hello.exception.UnauthorizedAccessException;
 
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static ro.unibuc.hello.data.entity.GameEntity.*;
 import static ro.unibuc.hello.security.AuthenticationUtils.getUser;
@@ -24,9 +23,6 @@ public class GameService {
     @Autowired
     protected GameRepository gameRepository;
 
-    @Autowired
-    private UserRepository userRepository;
-
     @Autowired
     private LibraryRepository libraryRepository;
 
@@ -36,26 +32,55 @@ public class GameService {
     @Autowired
     private WishlistRepository wishlistRepository;
 
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    protected GameCatalogCache gameCatalogCache;
+
     private void deleteGameDependencies(GameEntity game) {
         String gameId = game.getId();
         libraryRepository.deleteById_GameId(gameId);
         cartRepository.deleteById_GameId(gameId);
         wishlistRepository.deleteById_GameId(gameId);
-        userRepository.findByIdAndRole(game.getDeveloper().getId(), UserEntity.Role.DEVELOPER).getGames().remove(game);
+        reservationRepository.deleteById_GameId(gameId);
+        gameRepository.deleteKeys(gameId);
     }
 
     protected Type getType() {
         return Type.GAME;
     }
 
+    private GameEntity loadKeys(GameEntity game) {
+        List<GameEntity> games = gameRepository.loadKeys(List.of(game));
+        return games.get(0);
+    }
+
     public GameEntity getGame(String gameId) {
+        GameEntity game = gameCatalogCache.get(gameId, id -> gameRepository.findById(id).map(this::loadKeys).orElse(null));
+        if (game == null) throw new NotFoundException("No game found at id %s!", gameId);
+        return game;
+    }
+
+    public Map<String, GameEntity> getGames(Collection<String> gameIds) {
+        return gameRepository
+                .loadKeys(gameRepository.findSummariesByIdIn(gameIds))
+                .stream()
+                .collect(Collectors.toMap(GameEntity::getId, game -> game));
+    }
+
+    protected GameEntity loadGame(String gameId) {
         Optional<GameEntity> game = gameRepository.findById(gameId);
         if (game.isEmpty()) throw new NotFoundException("No game found at id %s!", gameId);
         return game.get();
     }
 
+    public boolean isInStock(String gameId) {
+        return gameRepository.hasKeys(gameId);
+    }
+
     private GameEntity getAndValidateOwnership(String id, UserEntity user) {
-        GameEntity game = getGame(id);
+        GameEntity game = loadGame(id);
         if (!Objects.equals(user.getUsername(), game.getDeveloper().getUsername())) throw new UnauthorizedAccessException();
         return game;
     }
@@ -71,11 +96,11 @@ public class GameService {
     }
 
     public List<GameEntity> getAllGames() {
-        return gameRepository.findByType(getType());
+        return gameRepository.loadKeys(gameRepository.findByType(getType()));
     }
 
     public List<GameEntity> getGameDLCs(String id) {
-        return getAndAssureType(id).getDlcs();
+        return gameRepository.loadKeys(getAndAssureType(id).getDlcs());
     }
 
     @DeveloperOnly
@@ -96,7 +121,7 @@ public class GameService {
         validate("Discount percentage", discountPercentage);
         validate("Number of keys", keys);
 
-        GameEntity savedGame = gameRepository.save(getType() == Type.GAME
+        return gameRepository.save(getType() == Type.GAME
                 ? buildGame(
                         title,
                         price,
@@ -113,11 +138,6 @@ public class GameService {
                         baseGame
                 )
         );
-
-        user.getGames().add(savedGame);
-        userRepository.save(user);
-
-        return savedGame;
     }
 
     @DeveloperOnly
@@ -131,7 +151,10 @@ public class GameService {
         validateAndUpdate("Price", game::setPrice, gameInput.getPrice());
         validateAndUpdate("Discount percentage", game::setDiscountPercentage, gameInput.getDiscountPercentage());
 
-        return gameRepository.save(game);
+        GameEntity savedGame = gameRepository.updateDetails(game);
+        gameCatalogCache.invalidate(id);
+        if (savedGame == null) throw new NotFoundException("No game found at id %s!", id);
+        return loadKeys(savedGame);
     }
 
     @DeveloperOnly
@@ -140,15 +163,17 @@ public class GameService {
 
         validate("Number of keys", keys);
 
-        game.setKeys(keys + game.getKeys());
-        return gameRepository.save(game);
+        gameRepository.addKeys(id, keys);
+        gameCatalogCache.invalidate(id);
+        return loadKeys(loadGame(id));
     }
 
     @DeveloperOnly
     public GameEntity markOutOfStock(String id) {
         GameEntity game = getAndValidateOwnership(id, getUser());
-        game.setKeys(0);
-        return gameRepository.save(game);
+        gameRepository.clearKeys(id);
+        gameCatalogCache.invalidate(id);
+        return game.withKeys(0);
     }
 
     @DeveloperOnly
@@ -161,6 +186,9 @@ public class GameService {
 
         deleteGameDependencies(game);
         gameRepository.delete(game);
+
+        gameCatalogCache.invalidate(id);
+        gameCatalogCache.invalidateAll(dlcs.stream().map(GameEntity::getId).toList());
     }
 
 }
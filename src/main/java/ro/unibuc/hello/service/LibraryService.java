@@ -4,6 +4,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import ro.unibuc.hello.annotation.CustomerOnly;
 import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.data.repository.GameRepository;
 import ro.unibuc.hello.data.repository.LibraryRepository;
 
 import java.util.List;
@@ -16,11 +17,14 @@ public class LibraryService {
     @Autowired
     protected LibraryRepository libraryRepository;
 
+    @Autowired
+    private GameRepository gameRepository;
+
     @Autowired
     private CustomerService customerService;
 
     public List<GameEntity> getLibraryByCustomerId(String customerId) {
-        return libraryRepository.getGamesByCustomer(customerService.getCustomer(customerId));
+        return gameRepository.loadKeys(libraryRepository.getGamesByCustomer(customerService.getCustomer(customerId)));
     }
 
     @CustomerOnly
@@ -0,0 +1,64 @@
+package ro.unibuc.hello.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ro.unibuc.hello.annotation.CustomerOnly;
+import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.data.repository.ReactiveGameRepository;
+import ro.unibuc.hello.data.repository.ReactiveLibraryRepository;
+import ro.unibuc.hello.exception.NotFoundException;
+
+import java.util.List;
+
+import static ro.unibuc.hello.data.entity.GameEntity.Type;
+import static ro.unibuc.hello.dto.GamePage.validateLimit;
+import static ro.unibuc.hello.security.AuthenticationUtils.getUser;
+
+@Service
+public class ReactiveCatalogService {
+
+    @Autowired
+    private ReactiveGameRepository gameRepository;
+
+    @Autowired
+    private ReactiveLibraryRepository libraryRepository;
+
+    public Flux<GameEntity> getAllGames(Type type) {
+        return gameRepository.loadKeys(gameRepository.findByType(type));
+    }
+
+    public Mono<GameEntity> getGameById(String id, Type type) {
+        return gameRepository
+                .findSummaryById(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("No game found at id %s!", id)))
+                .flatMap(game -> game.getType() == type
+                        ? gameRepository.loadKeys(Flux.just(game)).next()
+                        : Mono.error(new NotFoundException("%s is not a %s", game.getTitle(), type.toString().toLowerCase())));
+    }
+
+    public Flux<GameEntity> getGameDLCs(String id) {
+        return getGameById(id, Type.GAME)
+                .thenMany(gameRepository.findDlcIds(id))
+                .collectList()
+                .flatMapMany(dlcIds -> gameRepository.loadKeys(gameRepository.findSummariesByIdIn(dlcIds)));
+    }
+
+    // The user is read here, on the request thread that holds the security context
+    @CustomerOnly
+    public Flux<GameEntity> getStore(Boolean hideOwned, String cursor, Integer limit) {
+        validateLimit(limit);
+
+        Mono<List<String>> ownedGameIds = hideOwned
+                ? libraryRepository
+                        .findById_CustomerId(getUser().getId())
+                        .map(library -> library.getId().getGameId())
+                        .collectList()
+                : Mono.just(List.of());
+
+        return ownedGameIds.flatMapMany(gameIds -> gameRepository.loadKeys(gameRepository.findByTitleAfter(cursor, gameIds, Limit.of(limit))));
+    }
+
+}
@@ -0,0 +1,111 @@
+package ro.unibuc.hello.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import ro.unibuc.hello.data.entity.ReservationEntity;
+import ro.unibuc.hello.data.repository.GameRepository;
+import ro.unibuc.hello.data.repository.ReservationRepository;
+import ro.unibuc.hello.utils.TransactionRunner;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static ro.unibuc.hello.utils.DatabaseUtils.CompositeKey;
+import static ro.unibuc.hello.utils.DateUtils.dateNow;
+
+@Service
+public class ReservationService {
+
+    private static final Counter expiredHolds = Metrics.counter("cart.reservations.expired");
+
+    private final GameRepository gameRepository;
+
+    private final ReservationRepository reservationRepository;
+
+    private final TransactionRunner transactionRunner;
+
+    private final boolean enabled;
+
+    private final Duration ttl;
+
+    private final int reaperBatchSize;
+
+    @Autowired
+    public ReservationService(
+            GameRepository gameRepository,
+            ReservationRepository reservationRepository,
+            TransactionRunner transactionRunner,
+            @Value("${cart.reservations.enabled:false}") boolean enabled,
+            @Value("${cart.reservations.ttl:PT15M}") Duration ttl,
+            @Value("${cart.reservations.reaper-batch-size:500}") int reaperBatchSize
+    ) {
+        this.gameRepository = gameRepository;
+        this.reservationRepository = reservationRepository;
+        this.transactionRunner = transactionRunner;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.reaperBatchSize = reaperBatchSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean hold(String gameId, String customerId) {
+        if (!gameRepository.reserveKey(gameId)) return false;
+
+        try {
+            reservationRepository.save(new ReservationEntity(
+                    new CompositeKey(gameId, customerId),
+                    new Date(dateNow().getTime() + ttl.toMillis())
+            ));
+        } catch (RuntimeException e) {
+            gameRepository.releaseKeys(List.of(gameId));
+            throw e;
+        }
+        return true;
+    }
+
+    // True when the hold was still there, its key then belongs to the caller
+    public boolean consume(String gameId, String customerId) {
+        return reservationRepository.deleteById_GameIdAndId_CustomerId(gameId, customerId) == 1;
+    }
+
+    public void release(String gameId, String customerId) {
+        transactionRunner.run(() -> {
+            if (consume(gameId, customerId)) {
+                gameRepository.releaseKeys(List.of(gameId));
+            }
+        });
+    }
+
+    public void releaseAll(String customerId) {
+        reservationRepository
+                .findById_CustomerId(customerId)
+                .forEach(reservation -> release(reservation.getId().getGameId(), customerId));
+    }
+
+    // Every replica runs the reaper, the conditional delete lets only one of them release each hold
+    @Scheduled(fixedDelayString = "${cart.reservations.reaper-interval:PT30S}")
+    public void releaseExpired() {
+        if (!enabled) return;
+
+        Date now = dateNow();
+        for (ReservationEntity reservation : reservationRepository.findByExpiresAtBefore(now, Limit.of(reaperBatchSize))) {
+            CompositeKey id = reservation.getId();
+            transactionRunner.run(() -> {
+                if (reservationRepository.deleteById_GameIdAndId_CustomerIdAndExpiresAtBefore(id.getGameId(), id.getCustomerId(), now) == 1) {
+                    gameRepository.releaseKeys(List.of(id.getGameId()));
+                    expiredHolds.increment();
+                }
+            });
+        }
+    }
+
+}
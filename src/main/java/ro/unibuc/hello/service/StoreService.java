@@ -1,14 +1,17 @@
 package ro.unibuc.hello.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import ro.unibuc.hello.annotation.CustomerOnly;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.repository.GameRepository;
 import ro.unibuc.hello.data.repository.LibraryRepository;
+import ro.unibuc.hello.dto.GamePage;
 
 import java.util.List;
 
+import static ro.unibuc.hello.dto.GamePage.validateLimit;
 import static ro.unibuc.hello.security.AuthenticationUtils.getUser;
 
 @Service
@@ -21,11 +24,15 @@ public class StoreService {
     private LibraryRepository libraryRepository;
 
     @CustomerOnly
-    public List<GameEntity> getStore(Boolean hideOwned) {
-        List<GameEntity> gamesAndDlcs = gameRepository.findAll();
-        if (hideOwned) gamesAndDlcs.removeAll(libraryRepository.getGamesByCustomer(getUser()));
+    public GamePage getStore(Boolean hideOwned, String cursor, Integer limit) {
+        validateLimit(limit);
 
-        return gamesAndDlcs;
+        List<String> ownedGameIds = hideOwned
+                ? libraryRepository.getGameIdsByCustomer(getUser())
+                : List.of();
+        List<GameEntity> gamesAndDlcs = gameRepository.findByTitleAfter(cursor, ownedGameIds, Limit.of(limit));
+
+        return GamePage.of(gameRepository.loadKeys(gamesAndDlcs), limit);
     }
 
 }
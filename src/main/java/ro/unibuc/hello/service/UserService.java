@@ -5,18 +5,25 @@ import org.springframework.stereotype.Service;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
 import ro.unibuc.hello.data.repository.UserRepository;
+import ro.unibuc.hello.dto.GamePage;
 import ro.unibuc.hello.dto.User;
 import ro.unibuc.hello.exception.NotFoundException;
 
 import java.util.List;
+import java.util.function.Function;
 
 import static ro.unibuc.hello.data.entity.UserEntity.Role;
+import static ro.unibuc.hello.dto.GamePage.validateLimit;
+import static ro.unibuc.hello.security.AuthenticationUtils.evictUser;
 import static ro.unibuc.hello.security.AuthenticationUtils.getAuthorizedUser;
 import static ro.unibuc.hello.utils.ValidationUtils.*;
 
 @Service
 public abstract class UserService<T extends User> {
 
+    private static final ValidationRule<String> USERNAME_RULE = validLength(5);
+    private static final ValidationRule<String> PASSWORD_RULE = validPassword().and(validLength(5));
+
     @Autowired
     protected UserRepository userRepository;
 
@@ -35,9 +42,9 @@ public abstract class UserService<T extends User> {
     public void validateUser(User user) {
         String username = user.getUsername();
         validate(String.format("Username %s", username), username, isUnique(() -> userRepository.findByUsername(username)));
-        validate("Username", username, validLength(5));
+        validate("Username", username, USERNAME_RULE);
 
-        validate("Password", user.getPassword(), validPassword().and(validLength(5)));
+        validate("Password", user.getPassword(), PASSWORD_RULE);
 
         String email = user.getEmail();
         validate(String.format("Email %s", email), email, isUnique(() -> userRepository.findByEmail(email)));
@@ -50,15 +57,24 @@ public abstract class UserService<T extends User> {
         return userRepository.findByRole(getRole());
     }
 
-    public List<GameEntity> getGames() {
+    protected abstract List<GameEntity> findGames(String userId, String cursor, Integer limit);
+
+    protected Function<GameEntity, String> getCursor() {
+        return GameEntity::getTitle;
+    }
+
+    public GamePage getGames(String cursor, Integer limit) {
         UserEntity user = getAuthorizedUser(getRole());
-        return user.getGames();
+        validateLimit(limit);
+        return GamePage.of(findGames(user.getId(), cursor, limit), limit, getCursor());
     }
 
-    public List<GameEntity> getGames(String id) {
-        UserEntity user = userRepository.findByIdAndRole(id, getRole());
-        if (user == null) throw new NotFoundException("No %s found at id %s", getRole().toString().toLowerCase(), id);
-        return user.getGames();
+    public GamePage getGames(String id, String cursor, Integer limit) {
+        if (!userRepository.existsByIdAndRole(id, getRole())) {
+            throw new NotFoundException("No %s found at id %s", getRole().toString().toLowerCase(), id);
+        }
+        validateLimit(limit);
+        return GamePage.of(findGames(id, cursor, limit), limit, getCursor());
     }
 
     public UserEntity updateLoggedUser(T userInput, UserEntity user) {
@@ -68,17 +84,19 @@ public abstract class UserService<T extends User> {
 
         String username = userInput.getUsername();
         validate(String.format("Username %s", username), username, isUnique(() -> userRepository.findByUsername(username)));
-        validate("Username", username, validLength(5));
+        validate("Username", username, USERNAME_RULE);
         validateAndUpdate("Username", user::setUsername, username);
 
-        validateAndUpdate("Password", user::setPassword, userInput.getPassword(), validPassword().and(validLength(5)));
+        validateAndUpdate("Password", user::setPassword, userInput.getPassword(), PASSWORD_RULE);
 
         String email = userInput.getEmail();
         validate(String.format("Email %s", email), email, isUnique(() -> userRepository.findByEmail(email)));
         validateAndUpdate("Email", user::setEmail, email, validEmail());
 
         updateSpecificFields(userInput, user);
-        return userRepository.save(user);
+        UserEntity savedUser = userRepository.save(user);
+        evictUser();
+        return savedUser;
     }
 
 }
@@ -7,14 +7,19 @@ import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
 import ro.unibuc.hello.data.entity.WishlistEntity;
 import ro.unibuc.hello.data.repository.CartRepository;
+import ro.unibuc.hello.data.repository.GameRepository;
 import ro.unibuc.hello.data.repository.LibraryRepository;
 import ro.unibuc.hello.data.repository.WishlistRepository;
+import ro.unibuc.hello.dto.BatchResult;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static ro.unibuc.hello.data.entity.CartEntity.buildCartEntry;
 import static ro.unibuc.hello.data.entity.GameEntity.*;
 import static ro.unibuc.hello.data.entity.WishlistEntity.buildWishlistEntry;
+import static ro.unibuc.hello.dto.BatchResult.validateBatch;
 import static ro.unibuc.hello.security.AuthenticationUtils.getUser;
 import static ro.unibuc.hello.utils.ValidationUtils.validate;
 
@@ -30,12 +35,21 @@ public class WishlistService {
     @Autowired
     private LibraryRepository libraryRepository;
 
+    @Autowired
+    private GameRepository gameRepository;
+
     @Autowired
     private GameService gameService;
 
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private CartService cartService;
+
     @CustomerOnly
     public List<GameEntity> getWishlist() {
-        return wishlistRepository.getGamesByCustomer(getUser());
+        return gameRepository.loadKeys(wishlistRepository.getGamesByCustomer(getUser()));
     }
 
     @CustomerOnly
@@ -46,8 +60,8 @@ public class WishlistService {
         validate(
                 game.getTitle(),
                 gameId,
-                notInWishlist(wishlistRepository.getGamesByCustomer(customer))
-                .and(notInLibrary(libraryRepository.getGamesByCustomer(customer)))
+                notInWishlist(id -> wishlistRepository.containsGame(customer, id))
+                .and(notInLibrary(id -> libraryRepository.containsGame(customer, id)))
         );
 
         return wishlistRepository.save(
@@ -58,6 +72,24 @@ public class WishlistService {
         );
     }
 
+    @CustomerOnly
+    public List<BatchResult> addAllToWishlist(List<String> gameIds) {
+        UserEntity customer = getUser();
+        validateBatch(gameIds);
+
+        GameBatch batch = new GameBatch(gameIds, gameService.getGames(gameIds));
+        Set<String> wishlist = new HashSet<>(wishlistRepository.getGameIdsByCustomer(customer, gameIds));
+        Set<String> library = new HashSet<>(libraryRepository.getGameIdsByCustomer(customer, gameIds));
+        batch.validate(notInWishlist(wishlist::contains).and(notInLibrary(library::contains)));
+
+        List<GameEntity> games = batch.getGames();
+        wishlistRepository
+                .insertUnordered(games.stream().map(game -> buildWishlistEntry(game, customer)).toList())
+                .forEach(index -> batch.reject(games.get(index), "%s already in wishlist"));
+
+        return batch.getResults();
+    }
+
     @CustomerOnly
     public void moveToCart(String gameId) {
         UserEntity customer = getUser();
@@ -66,31 +98,25 @@ public class WishlistService {
         validate(
                 game.getTitle(),
                 gameId,
-                inWishlist(wishlistRepository.getGamesByCustomer(customer))
-                .and(notInCart(cartRepository.getGamesByCustomer(customer)))
+                inWishlist(id -> wishlistRepository.containsGame(customer, id))
+                .and(notInCart(id -> cartRepository.containsGame(customer, id)))
         );
 
-        cartRepository.save(
-            buildCartEntry(
-                game,
-                customer
-            )
-        );
+        cartService.addToCart(game, customer);
     }
 
     @CustomerOnly
     public void moveAllToCart() {
         UserEntity customer = getUser();
-        wishlistRepository.getGamesByCustomer(customer).forEach(game -> {
-            if (game.getKeys() > 0) {
-                cartRepository.save(
-                    buildCartEntry(
-                        game,
-                        customer
-                    )
-                );
-            }
-        });
+        List<String> movableGameIds = wishlistRepository.findGameIdsToMoveToCart(customer.getId());
+        List<String> gameIds = reservationService.isEnabled()
+                ? movableGameIds.stream().filter(gameId -> reservationService.hold(gameId, customer.getId())).toList()
+                : movableGameIds;
+
+        Set<Integer> duplicates = cartRepository.insertUnordered(
+                gameIds.stream().map(gameId -> buildCartEntry(gameId, customer)).toList()
+        );
+        if (reservationService.isEnabled()) gameRepository.releaseKeys(duplicates.stream().map(gameIds::get).toList());
     }
 
     @CustomerOnly
@@ -1,13 +1,10 @@
 package ro.unibuc.hello.utils;
 
 import lombok.*;
-import org.springframework.data.util.Pair;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
 
 public final class DatabaseUtils {
 
@@ -28,23 +25,23 @@ public final class DatabaseUtils {
 
     private DatabaseUtils() {}
 
-    private static final Map<String, Pair<String, Integer>> info = new HashMap<>();
+    @Setter
+    private static IdGenerator idGenerator = new IdGenerator();
 
     public static void setTemplate(String key, String template) {
-        info.put(key, Pair.of(template + "%s", 0));
+        idGenerator.setTemplate(key, template);
+    }
+
+    public static void startAllocating(String key) {
+        idGenerator.startAllocating(key);
     }
 
     public static String getId(String key, Integer at) {
-        return String.format(info.get(key).getFirst(), at);
+        return idGenerator.getId(key, at);
     }
 
     public static String generateId(String key) {
-        if (!info.containsKey(key)) {
-            throw new RuntimeException(String.format("%s not found", key));
-        }
-        Pair<String, Integer> pairInfo = info.get(key);
-        info.put(key, Pair.of(pairInfo.getFirst(), pairInfo.getSecond() + 1));
-        return String.format(pairInfo.getFirst(), pairInfo.getSecond());
+        return idGenerator.generateId(key);
     }
 
 }
@@ -0,0 +1,125 @@
+package ro.unibuc.hello.utils;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ro.unibuc.hello.data.repository.IdBlockAllocator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class IdGenerator {
+
+    private final Map<String, Sequence> sequences = new ConcurrentHashMap<>();
+
+    private final IdBlockAllocator blockAllocator;
+
+    private final int blockSize;
+
+    public IdGenerator() {
+        this((IdBlockAllocator) null, 1);
+    }
+
+    @Autowired
+    public IdGenerator(
+            ObjectProvider<IdBlockAllocator> blockAllocator,
+            @Value("${database.ids.block-size:100}") int blockSize
+    ) {
+        this(blockAllocator.getIfAvailable(), blockSize);
+        DatabaseUtils.setIdGenerator(this);
+    }
+
+    public IdGenerator(IdBlockAllocator blockAllocator, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("The id block size must be positive");
+        }
+        this.blockAllocator = blockAllocator;
+        this.blockSize = blockSize;
+    }
+
+    public void setTemplate(String key, String template) {
+        sequences.put(key, new Sequence(key, template + "%s"));
+    }
+
+    public void startAllocating(String key) {
+        if (blockAllocator != null) {
+            getSequence(key).startAllocating();
+        }
+    }
+
+    public String getId(String key, long at) {
+        return String.format(getSequence(key).format, at);
+    }
+
+    public String generateId(String key) {
+        Sequence sequence = getSequence(key);
+        return String.format(sequence.format, sequence.next());
+    }
+
+    private Sequence getSequence(String key) {
+        Sequence sequence = sequences.get(key);
+        if (sequence == null) {
+            throw new RuntimeException(String.format("%s not found", key));
+        }
+        return sequence;
+    }
+
+    private final class Sequence {
+
+        private final String key;
+
+        private final String format;
+
+        private final AtomicLong next = new AtomicLong();
+
+        // Not a monitor: allocating a block reads the database, which would pin a virtual thread to its carrier
+        private final Lock lock = new ReentrantLock();
+
+        // Guarded by lock
+        private long end;
+
+        // Guarded by lock, false while the seeded ids are handed out
+        private boolean allocating;
+
+        private Sequence(String key, String format) {
+            this.key = key;
+            this.format = format;
+        }
+
+        private long next() {
+            if (blockAllocator == null) {
+                return next.getAndIncrement();
+            }
+
+            lock.lock();
+            try {
+                if (allocating && next.get() == end) {
+                    long start = blockAllocator.allocate(key, blockSize);
+                    next.set(start);
+                    end = start + blockSize;
+                }
+                return next.getAndIncrement();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void startAllocating() {
+            lock.lock();
+            try {
+                blockAllocator.reserve(key, next.get());
+                end = next.get();
+                allocating = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+    }
+
+}
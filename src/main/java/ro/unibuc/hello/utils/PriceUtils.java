@@ -0,0 +1,36 @@
+package ro.unibuc.hello.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class PriceUtils {
+
+    private PriceUtils() {}
+
+    public static Long toCents(Double price) {
+        if (price == null) {
+            return null;
+        }
+        return BigDecimal
+                .valueOf(price)
+                .movePointRight(2)
+                .setScale(0, RoundingMode.HALF_EVEN)
+                .longValueExact();
+    }
+
+    public static Double toPrice(Long cents) {
+        return cents == null ? null : cents / 100.0;
+    }
+
+    // Rounds half to even, like the DecimalFormat the prices used to go through
+    public static long discount(long cents, int discountPercentage) {
+        long scaled = cents * (100 - discountPercentage);
+        long discounted = scaled / 100;
+        long remainder = scaled % 100;
+        if (remainder > 50 || (remainder == 50 && (discounted & 1) == 1)) {
+            discounted++;
+        }
+        return discounted;
+    }
+
+}
@@ -37,4 +37,12 @@ public final class ResponseUtils {
         return response(null, HttpStatus.UNAUTHORIZED);
     }
 
+    public static ResponseEntity<ErrorString> conflict(String err) {
+        return response(new ErrorString(err), HttpStatus.CONFLICT);
+    }
+
+    public static ResponseEntity<ErrorString> serviceUnavailable(String err) {
+        return response(new ErrorString(err), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
 }
@@ -0,0 +1,106 @@
+package ro.unibuc.hello.utils;
+
+import com.mongodb.MongoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ro.unibuc.hello.exception.TransactionConflictException;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class TransactionRunner {
+
+    private static final int WRITE_CONFLICT = 112;
+
+    private static final Counter retries = Metrics.counter("mongo.transaction.retries");
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final int maxAttempts;
+
+    private final Duration initialBackoff;
+
+    private final Duration maxBackoff;
+
+    private volatile Boolean transactionsSupported;
+
+    @Autowired
+    public TransactionRunner(
+            PlatformTransactionManager transactionManager,
+            MongoTemplate mongoTemplate,
+            @Value("${database.transactions.max-attempts:5}") int maxAttempts,
+            @Value("${database.transactions.initial-backoff:PT0.005S}") Duration initialBackoff,
+            @Value("${database.transactions.max-backoff:PT0.1S}") Duration maxBackoff
+    ) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("The transaction attempts must be positive");
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mongoTemplate = mongoTemplate;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    // Replica set members report their set, mongos reports isdbgrid
+    private boolean transactionsSupported() {
+        if (transactionsSupported == null) {
+            Document hello = mongoTemplate.executeCommand(new Document("hello", 1));
+            transactionsSupported = hello.containsKey("setName") || "isdbgrid".equals(hello.getString("msg"));
+        }
+        return transactionsSupported;
+    }
+
+    static boolean isTransient(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException
+                    && (mongoException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL)
+                    || mongoException.getCode() == WRITE_CONFLICT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void run(Runnable action) {
+        if (!transactionsSupported()) {
+            action.run();
+            return;
+        }
+
+        long backoffNanos = initialBackoff.toNanos();
+        for (int attempt = 1; ; ++attempt) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> action.run());
+                return;
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) throw e;
+                if (attempt == maxAttempts) throw new TransactionConflictException(attempt, e);
+                retries.increment();
+                backOff(backoffNanos, e);
+                backoffNanos = Math.min(backoffNanos * 2, maxBackoff.toNanos());
+            }
+        }
+    }
+
+    private static void backOff(long backoffNanos, RuntimeException cause) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(backoffNanos + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+}
@@ -1,10 +1,11 @@
 package ro.unibuc.hello.utils;
 
-import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.exception.ValidationException;
 
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
@@ -12,13 +13,59 @@ public final class ValidationUtils {
 
     private ValidationUtils() {}
 
-    private static boolean failsRegex(String regex, String value) {
-        return !Pattern.compile(regex).matcher(value).find();
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+    private static final Pattern WEBSITE = Pattern.compile("^(https?|ftp)://[^\\s/$.?#].[^\\s]*$");
+
+    private static final ValidationRule<Object> DEFAULT_VALIDATOR = value -> {
+        if (value instanceof String s && s.trim().isEmpty()) {
+            return "%s cannot be empty!";
+        }
+        if ((value instanceof Integer i && i < 0) || (value instanceof Double v && v < 0)) {
+            return "%s cannot be negative!";
+        }
+        return null;
+    };
+
+    private static final ValidationRule<String> VALID_PASSWORD = value -> {
+        if (lacksCharBetween(value, 'A', 'Z')) {
+            return "%s must contain at least one uppercase letter!";
+        }
+        if (lacksCharBetween(value, 'a', 'z')) {
+            return "%s must contain at least one lowercase letter!";
+        }
+        if (lacksCharBetween(value, '0', '9')) {
+            return "%s must contain at least one digit!";
+        }
+        return null;
+    };
+
+    private static final ValidationRule<String> VALID_EMAIL = value -> failsRegex(EMAIL, value)
+            ? "%s must be a valid email address!"
+            : null;
+
+    private static final ValidationRule<String> VALID_WEBSITE = value -> failsRegex(WEBSITE, value)
+            ? "%s must be a valid website URL!"
+            : null;
+
+    private static final Map<Integer, ValidationRule<String>> VALID_LENGTHS = new ConcurrentHashMap<>();
+
+    private static boolean failsRegex(Pattern pattern, String value) {
+        return !pattern.matcher(value).find();
     }
 
-    private static ValidationRule<String> checkPresence(Supplier<List<GameEntity>> listSupplier, String collectionName, boolean shouldBeIn) {
+    private static boolean lacksCharBetween(String value, char from, char to) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= from && c <= to) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ValidationRule<String> checkPresence(Predicate<String> contains, String collectionName, boolean shouldBeIn) {
         return gameId -> {
-            boolean exists = listSupplier.get().stream().anyMatch(g -> g.getId().equals(gameId));
+            boolean exists = contains.test(gameId);
             if (exists == shouldBeIn) {
                 return null;
             }
@@ -81,22 +128,18 @@ public final class ValidationUtils {
         validateAndUpdate(fieldName, setter, fieldValue, null);
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> ValidationRule<T> defaultValidator() {
-        return value -> {
-            if (value instanceof String s && s.trim().isEmpty()) {
-                return "%s cannot be empty!";
-            }
-            if ((value instanceof Integer i && i < 0) || (value instanceof Double v && v < 0)) {
-                return "%s cannot be negative!";
-            }
-            return null;
-        };
+        return (ValidationRule<T>) DEFAULT_VALIDATOR;
+    }
+
+    private static ValidationRule<String> buildValidLength(int min) {
+        String error = "%s must be at least " + min + " characters long!";
+        return value -> value.length() < min ? error : null;
     }
 
     public static ValidationRule<String> validLength(int min) {
-        return value -> value.length() < min
-                ? "%s must be at least " + min + " characters long!"
-                : null;
+        return VALID_LENGTHS.computeIfAbsent(min, ValidationUtils::buildValidLength);
     }
 
     @SuppressWarnings("unused")
@@ -107,30 +150,15 @@ public final class ValidationUtils {
     }
 
     public static ValidationRule<String> validPassword() {
-        return value -> {
-            if (failsRegex("[A-Z]", value)) {
-                return "%s must contain at least one uppercase letter!";
-            }
-            if (failsRegex("[a-z]", value)) {
-                return "%s must contain at least one lowercase letter!";
-            }
-            if (failsRegex("[0-9]", value)) {
-                return "%s must contain at least one digit!";
-            }
-            return null;
-        };
+        return VALID_PASSWORD;
     }
 
     public static ValidationRule<String> validEmail() {
-        return value -> failsRegex("^[A-Za-z0-9+_.-]+@(.+)$", value)
-                ? "%s must be a valid email address!"
-                : null;
+        return VALID_EMAIL;
     }
 
     public static ValidationRule<String> validWebsite() {
-        return value -> failsRegex("^(https?|ftp)://[^\\s/$.?#].[^\\s]*$", value)
-                ? "%s must be a valid website URL!"
-                : null;
+        return VALID_WEBSITE;
     }
 
     public static <T> ValidationRule<T> isUnique(Supplier<T> existsCheck) {
@@ -139,12 +167,12 @@ public final class ValidationUtils {
                 : null;
     }
 
-    public static ValidationRule<String> isNotIn(Supplier<List<GameEntity>> listSupplier, String collectionName) {
-        return checkPresence(listSupplier, collectionName, false);
+    public static ValidationRule<String> isNotIn(Predicate<String> contains, String collectionName) {
+        return checkPresence(contains, collectionName, false);
     }
 
-    public static ValidationRule<String> isIn(Supplier<List<GameEntity>> listSupplier, String collectionName) {
-        return checkPresence(listSupplier, collectionName, true);
+    public static ValidationRule<String> isIn(Predicate<String> contains, String collectionName) {
+        return checkPresence(contains, collectionName, true);
     }
 
 }
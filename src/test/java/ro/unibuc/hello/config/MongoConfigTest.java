@@ -0,0 +1,77 @@
+package ro.unibuc.hello.config;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MongoConfigTest {
+
+    private static final String CONNECTION_URL = "mongodb://localhost:27017/?maxPoolSize=5&compressors=zlib";
+
+    @Test
+    void testClientSettings_PropertiesOverrideConnectionString() {
+        MongoClientProperties properties = new MongoClientProperties();
+        properties.getPool().setMaxSize(200);
+        properties.getPool().setMaxWaitTime(Duration.ofMillis(500));
+        properties.getSocket().setReadTimeout(Duration.ofSeconds(3));
+
+        MongoClientSettings settings = MongoConfig.clientSettings(CONNECTION_URL, properties);
+
+        assertEquals(200, settings.getConnectionPoolSettings().getMaxSize());
+        assertEquals(10, settings.getConnectionPoolSettings().getMinSize());
+        assertEquals(500, settings.getConnectionPoolSettings().getMaxWaitTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, settings.getConnectionPoolSettings().getConnectionPoolListeners().size());
+        assertEquals(3000, settings.getSocketSettings().getReadTimeout(TimeUnit.MILLISECONDS));
+        assertEquals(
+                List.of("zstd", "snappy"),
+                settings.getCompressorList().stream().map(MongoCompressor::getName).toList()
+        );
+        assertEquals(ReadPreference.primary(), settings.getReadPreference());
+    }
+
+    @Test
+    void testClientSettings_UnknownCompressor() {
+        MongoClientProperties properties = new MongoClientProperties();
+        properties.setCompressors(List.of("lz4"));
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> MongoConfig.clientSettings(CONNECTION_URL, properties)
+        );
+        assertEquals("Unknown Mongo compressor lz4!", exception.getMessage());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPublicReadMongoTemplate_PrepareCollection() {
+        MongoDatabaseFactory databaseFactory = mock(MongoDatabaseFactory.class);
+        MongoConverter converter = mock(MongoConverter.class, RETURNS_DEEP_STUBS);
+        PublicReadMongoTemplate template = new PublicReadMongoTemplate(databaseFactory, converter, ReadPreference.secondaryPreferred());
+        MongoCollection<Document> collection = mock(MongoCollection.class);
+        MongoCollection<Document> secondaryCollection = mock(MongoCollection.class);
+        when(collection.withReadPreference(ReadPreference.secondaryPreferred())).thenReturn(secondaryCollection);
+
+        assertSame(collection, template.prepareCollection(collection));
+
+        PublicReadMongoTemplate.setPublicRead(true);
+        try {
+            assertSame(secondaryCollection, template.prepareCollection(collection));
+        } finally {
+            PublicReadMongoTemplate.setPublicRead(false);
+        }
+        assertFalse(PublicReadMongoTemplate.isPublicRead());
+    }
+
+}
@@ -0,0 +1,118 @@
+package ro.unibuc.hello.config;
+
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.Date;
+import java.util.List;
+
+import static com.mongodb.client.model.Filters.*;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest
+@Testcontainers
+@Tag("IntegrationTest")
+public class MongoIndexConfigIntegrationTest {
+
+    static {
+        TestcontainersConfiguration
+                .getInstance()
+                .updateUserConfig("ryuk.container.privileged", "true");
+    }
+
+    @Container
+    private final static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:6.0.20")
+            .withExposedPorts(27017)
+            .withSharding();
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("mongodb.connection.url", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    private static final List<String> COMPOSITE_KEY_COLLECTIONS = List.of("library", "cart", "wishlist", "reservations");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    // Sharded plans nest the plan of each shard under the winning plan, so the whole subtree is checked
+    private static void assertNoCollectionScan(String operation, Document explain) {
+        Document queryPlanner = explain.get("queryPlanner", Document.class);
+        assertNotNull(queryPlanner, operation);
+        String winningPlan = queryPlanner.get("winningPlan", Document.class).toJson();
+        assertFalse(winningPlan.contains("\"COLLSCAN\""), String.format("%s scans the collection: %s", operation, winningPlan));
+    }
+
+    private void assertFindUsesIndex(String collectionName, Bson filter) {
+        Document explain = mongoTemplate
+                .getCollection(collectionName)
+                .find(filter)
+                .explain();
+        assertNoCollectionScan(String.format("find %s %s", collectionName, filter), explain);
+    }
+
+    private void assertDeleteUsesIndex(String collectionName, Bson filter) {
+        Document explain = mongoTemplate.getDb().runCommand(new Document("explain", new Document()
+                .append("delete", collectionName)
+                .append("deletes", List.of(new Document("q", filter.toBsonDocument()).append("limit", 0))))
+                .append("verbosity", "queryPlanner"));
+        assertNoCollectionScan(String.format("delete %s %s", collectionName, filter), explain);
+    }
+
+    @Test
+    void testFindById_CustomerId_UsesIndex() {
+        COMPOSITE_KEY_COLLECTIONS.forEach(collectionName -> assertFindUsesIndex(collectionName, eq("_id.customerId", "customer")));
+    }
+
+    @Test
+    void testDeleteById_CustomerId_UsesIndex() {
+        COMPOSITE_KEY_COLLECTIONS.forEach(collectionName -> assertDeleteUsesIndex(collectionName, eq("_id.customerId", "customer")));
+    }
+
+    @Test
+    void testDeleteById_GameId_UsesIndex() {
+        COMPOSITE_KEY_COLLECTIONS.forEach(collectionName -> assertDeleteUsesIndex(collectionName, eq("_id.gameId", "game")));
+    }
+
+    @Test
+    void testDeleteById_CustomerIdAndId_GameIdIn_UsesIndex() {
+        COMPOSITE_KEY_COLLECTIONS.forEach(collectionName -> assertDeleteUsesIndex(
+                collectionName,
+                and(eq("_id.customerId", "customer"), in("_id.gameId", List.of("game")))
+        ));
+    }
+
+    @Test
+    void testFindReservationsByExpiresAt_UsesIndex() {
+        assertFindUsesIndex("reservations", lt("expiresAt", new Date()));
+    }
+
+    @Test
+    void testFindStockShardsByGameId_UsesIndex() {
+        assertFindUsesIndex("game_stock", and(eq("gameId", "game"), gt("keys", 0)));
+    }
+
+    @Test
+    void testFindByType_UsesIndex() {
+        assertFindUsesIndex("games", eq("type", "GAME"));
+    }
+
+    @Test
+    void testFindByDeveloper_UsesIndex() {
+        assertFindUsesIndex("games", eq("developer", new DBRef("users", "developer")));
+    }
+
+}
@@ -0,0 +1,37 @@
+package ro.unibuc.hello.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordConfigTest {
+
+    private static final String PASSWORD = "customer123-PASSWORD";
+
+    private final PasswordConfig passwordConfig = new PasswordConfig();
+
+    @Test
+    void testPasswordEncoder_Pbkdf2Sha256() {
+        PasswordEncoder passwordEncoder = passwordConfig.passwordEncoder("pbkdf2-sha256", 4, 1000);
+
+        String hash = passwordEncoder.encode(PASSWORD);
+
+        assertTrue(hash.startsWith("{pbkdf2-sha256}"));
+        assertTrue(passwordEncoder.matches(PASSWORD, hash));
+    }
+
+    @Test
+    void testPasswordEncoder_MatchesUnprefixedBCrypt() {
+        PasswordEncoder passwordEncoder = passwordConfig.passwordEncoder("pbkdf2-sha256", 4, 1000);
+
+        assertTrue(passwordEncoder.matches(PASSWORD, new BCryptPasswordEncoder(4).encode(PASSWORD)));
+    }
+
+    @Test
+    void testPasswordEncoder_UnknownEncoder() {
+        assertThrows(IllegalArgumentException.class, () -> passwordConfig.passwordEncoder("argon2", 4, 1000));
+    }
+
+}
@@ -15,6 +15,9 @@ import ro.unibuc.hello.exception.ValidationException;
 import ro.unibuc.hello.service.AuthenticationService;
 import ro.unibuc.hello.utils.GenericControllerTest;
 
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -52,7 +55,7 @@ public class AuthenticationControllerTest extends GenericControllerTest<Authenti
         Credentials credentials = new Credentials(mockDeveloper.getUsername(), mockDeveloper.getPassword());
         Token token = new Token(getMockedAccessToken(UserEntity.Role.DEVELOPER));
         when(authenticationService.login(argThat(cred -> cred.equals(credentials))))
-                .thenReturn(token);
+                .thenReturn(completedFuture(token));
 
         performPost(credentials, null, "/login")
                 .andExpect(status().isOk())
@@ -136,12 +139,23 @@ public class AuthenticationControllerTest extends GenericControllerTest<Authenti
                 .andExpect(jsonPath("$.error").value(errorMessage));
     }
 
+    @Test
+    void testLogin_Busy() throws Exception {
+        Credentials credentials = new Credentials("customer", "customer123-PASSWORD");
+        when(authenticationService.login(argThat(cred -> cred.equals(credentials))))
+                .thenThrow(new RejectedExecutionException());
+
+        performPost(credentials, null, "/login")
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value("The server is busy, please try again later"));
+    }
+
     @Test
     void testSignupDeveloper_ValidInput() throws Exception {
         Developer developerInput = mockDeveloperInput();
         UserEntity mockDeveloper = mockDeveloperAuth();
         when(authenticationService.signupDeveloper(argThat(devInput -> devInput.equals(developerInput))))
-                .thenReturn(mockDeveloper);
+                .thenReturn(completedFuture(mockDeveloper));
 
         performPost(developerInput, null, "/signup/developer")
                 .andExpect(status().isCreated())
@@ -153,7 +167,7 @@ public class AuthenticationControllerTest extends GenericControllerTest<Authenti
         Customer customerInput = mockCustomerInput();
         UserEntity mockCustomer = mockCustomerAuth();
         when(authenticationService.signupCustomer(argThat(custInput -> custInput.equals(customerInput))))
-                .thenReturn(mockCustomer);
+                .thenReturn(completedFuture(mockCustomer));
 
         performPost(customerInput, null, "/signup/customer")
                 .andExpect(status().isCreated())
@@ -9,8 +9,11 @@ import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import ro.unibuc.hello.data.entity.CartEntity;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
+import ro.unibuc.hello.dto.BatchResult;
 import ro.unibuc.hello.dto.CartInfo;
 import ro.unibuc.hello.exception.NotFoundException;
+import ro.unibuc.hello.exception.TransactionConflictException;
+import ro.unibuc.hello.exception.ValidationException;
 import ro.unibuc.hello.service.CartService;
 import ro.unibuc.hello.utils.GenericControllerTest;
 
@@ -93,6 +96,15 @@ class CartControllerTest extends GenericControllerTest<CartController> {
                 .andExpect(jsonPath("$.error").value(errorMessage));
     }
 
+    @Test
+    void testCheckout_TransactionConflict() throws Exception {
+        doThrow(new TransactionConflictException(5, new RuntimeException("WriteConflict"))).when(cartService).checkout();
+
+        performPost(null, getMockedAccessToken(Role.CUSTOMER),"/checkout")
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("The request conflicted with other updates, please try again"));
+    }
+
     @Test
     void testCheckout_InvalidRole() throws Exception {
         performPost(null, getMockedAccessToken(Role.DEVELOPER),"/checkout")
@@ -105,6 +117,41 @@ class CartControllerTest extends GenericControllerTest<CartController> {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    void testAddAllToCart_Valid() throws Exception {
+        List<String> gameIds = List.of("1", "2");
+        when(cartService.addAllToCart(gameIds)).thenReturn(List.of(
+                BatchResult.added("1"),
+                BatchResult.rejected("2", "%s already in cart", "Game 2")
+        ));
+
+        performPost(gameIds, getMockedAccessToken(Role.CUSTOMER), "/batch")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].gameId").value("1"))
+                .andExpect(jsonPath("$[0].added").value(true))
+                .andExpect(jsonPath("$[0].error").doesNotExist())
+                .andExpect(jsonPath("$[1].added").value(false))
+                .andExpect(jsonPath("$[1].error").value("Game 2 already in cart"));
+    }
+
+    @Test
+    void testAddAllToCart_InvalidBatch() throws Exception {
+        String errorMessage = "A batch must have between 1 and 500 game ids!";
+        when(cartService.addAllToCart(anyList())).thenThrow(new ValidationException(errorMessage));
+
+        performPost(List.of(), getMockedAccessToken(Role.CUSTOMER), "/batch")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(errorMessage));
+    }
+
+    @Test
+    void testAddAllToCart_InvalidRole() throws Exception {
+        performPost(List.of(ID), getMockedAccessToken(Role.DEVELOPER), "/batch")
+                .andExpect(status().isUnauthorized());
+        verify(cartService, never()).addAllToCart(anyList());
+    }
+
     @Test
     void testAddToCart_Valid() throws Exception {
         UserEntity customer = mockCustomerAuth();
@@ -0,0 +1,154 @@
+package ro.unibuc.hello.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultMatcher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.exception.NotFoundException;
+import ro.unibuc.hello.service.ReactiveCatalogService;
+import ro.unibuc.hello.utils.GenericControllerTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static ro.unibuc.hello.data.entity.GameEntity.Type;
+import static ro.unibuc.hello.data.entity.UserEntity.Role;
+import static ro.unibuc.hello.utils.AuthenticationTestUtils.getMockedAccessToken;
+import static ro.unibuc.hello.utils.GameTestUtils.*;
+
+@EnableAspectJAutoProxy
+class CatalogControllerTest extends GenericControllerTest<CatalogController> {
+
+    @Mock
+    private ReactiveCatalogService catalogService;
+
+    @InjectMocks
+    private CatalogController catalogController;
+
+    @Override
+    public String getEndpoint() {
+        return "catalog";
+    }
+
+    @Override
+    public CatalogController getController() {
+        return catalogController;
+    }
+
+    @BeforeEach
+    protected void setUp() {
+        MockitoAnnotations.openMocks(this);
+        super.setUp();
+    }
+
+    // One JSON document per line, in the order of the stream
+    private static ResultMatcher matchStream(List<GameEntity> games) {
+        return result -> {
+            ObjectMapper objectMapper = new ObjectMapper();
+            List<String> ids = result
+                    .getResponse()
+                    .getContentAsString()
+                    .lines()
+                    .map(line -> {
+                        try {
+                            return objectMapper.readTree(line).get("id").asText();
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    })
+                    .toList();
+            assertEquals(games.stream().map(GameEntity::getId).toList(), ids);
+        };
+    }
+
+    @Test
+    void testGetGames() throws Exception {
+        List<GameEntity> games = buildGames(3);
+        when(catalogService.getAllGames(Type.GAME)).thenReturn(Flux.fromIterable(games));
+
+        performGet("/games")
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(matchStream(games));
+    }
+
+    @Test
+    void testGetGameById_Valid() throws Exception {
+        GameEntity game = buildGame();
+        when(catalogService.getGameById(game.getId(), Type.GAME)).thenReturn(Mono.just(game));
+
+        performGet(null, "/games/{id}", game.getId())
+                .andExpect(status().isOk())
+                .andExpect(matchOne(game, GAME_FIELDS));
+    }
+
+    @Test
+    void testGetGameById_InvalidId() throws Exception {
+        String errorMessage = "Invalid ID";
+        when(catalogService.getGameById(ID, Type.GAME)).thenReturn(Mono.error(new NotFoundException(errorMessage)));
+
+        performGet(null, "/games/{id}", ID)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(errorMessage));
+    }
+
+    @Test
+    void testGetGameDLCs() throws Exception {
+        GameEntity game = buildGame();
+        List<GameEntity> dlcs = buildDLCsForGame(3, game);
+        when(catalogService.getGameDLCs(game.getId())).thenReturn(Flux.fromIterable(dlcs));
+
+        performGet(null, "/games/{id}/dlcs", game.getId())
+                .andExpect(status().isOk())
+                .andExpect(matchStream(dlcs));
+    }
+
+    @Test
+    void testGetDLCs() throws Exception {
+        List<GameEntity> dlcs = buildDLCsForGame(2, buildGame());
+        when(catalogService.getAllGames(Type.DLC)).thenReturn(Flux.fromIterable(dlcs));
+
+        performGet("/dlcs")
+                .andExpect(status().isOk())
+                .andExpect(matchStream(dlcs));
+    }
+
+    @Test
+    void testGetDLCById_Valid() throws Exception {
+        List<GameEntity> dlcs = buildDLCsForGame(1, buildGame());
+        GameEntity dlc = dlcs.getFirst();
+        when(catalogService.getGameById(dlc.getId(), Type.DLC)).thenReturn(Mono.just(dlc));
+
+        performGet(null, "/dlcs/{id}", dlc.getId())
+                .andExpect(status().isOk())
+                .andExpect(matchOne(dlc, GAME_FIELDS));
+    }
+
+    @Test
+    void testGetStore() throws Exception {
+        List<GameEntity> games = buildGames(3);
+        when(catalogService.getStore(true, "Game 0", 3)).thenReturn(Flux.fromIterable(games));
+
+        performGet(getMockedAccessToken(Role.CUSTOMER), "/store?hideOwned=true&cursor={cursor}&limit=3", "Game 0")
+                .andExpect(status().isOk())
+                .andExpect(matchStream(games));
+    }
+
+    @Test
+    void testGetStore_NoCustomer() throws Exception {
+        performGet(getMockedAccessToken(Role.DEVELOPER), "/store?hideOwned=false")
+                .andExpect(status().isUnauthorized());
+        verify(catalogService, never()).getStore(any(), any(), any());
+    }
+
+}
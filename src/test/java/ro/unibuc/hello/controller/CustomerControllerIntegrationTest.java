@@ -7,11 +7,14 @@ import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.utility.TestcontainersConfiguration;
+import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
+import ro.unibuc.hello.data.repository.LibraryRepository;
 import ro.unibuc.hello.data.repository.UserRepository;
 import ro.unibuc.hello.dto.Customer;
 import ro.unibuc.hello.utils.GenericControllerIntegrationTest;
 
+import java.util.Comparator;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
@@ -42,6 +45,9 @@ public class CustomerControllerIntegrationTest extends GenericControllerIntegrat
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private LibraryRepository libraryRepository;
+
     @Autowired
     private CustomerController customerController;
 
@@ -50,6 +56,14 @@ public class CustomerControllerIntegrationTest extends GenericControllerIntegrat
         return "customers";
     }
 
+    private List<GameEntity> getGamesByTitle(UserEntity customer) {
+        return libraryRepository
+                .getGamesByCustomer(customer)
+                .stream()
+                .sorted(Comparator.comparing(GameEntity::getTitle))
+                .toList();
+    }
+
     @Override
     public CustomerController getController() {
         return customerController;
@@ -77,10 +91,12 @@ public class CustomerControllerIntegrationTest extends GenericControllerIntegrat
     void testGetCustomerGames_ValidId() throws Exception {
         UserEntity customerDB = userRepository.findByIdAndRole(getUserId(Role.CUSTOMER), Role.CUSTOMER);
 
+        List<GameEntity> gamesDB = getGamesByTitle(customerDB);
+
         performGet(null, "/{id}/games", customerDB.getId())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(customerDB.getGames().size())))
-                .andExpect(matchAll(customerDB.getGames(), GAME_FIELDS));
+                .andExpect(jsonPath("$.items", hasSize(gamesDB.size())))
+                .andExpect(matchAll(".items", gamesDB, GAME_FIELDS));
     }
 
     @Test
@@ -106,10 +122,13 @@ public class CustomerControllerIntegrationTest extends GenericControllerIntegrat
     void testGetMyGames_Authenticated() throws Exception {
         UserEntity customerDB = userRepository.findByIdAndRole(getUserId(Role.CUSTOMER), Role.CUSTOMER);
 
-        performGet(getAccessToken(Role.CUSTOMER), "/myGames")
+        List<GameEntity> gamesDB = getGamesByTitle(customerDB);
+
+        performGet(getAccessToken(Role.CUSTOMER), "/myGames?limit={limit}", 1)
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(customerDB.getGames().size())))
-                .andExpect(matchAll(customerDB.getGames(), GAME_FIELDS));
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor").value(gamesDB.getFirst().getTitle()))
+                .andExpect(matchAll(".items", gamesDB.subList(0, 1), GAME_FIELDS));
     }
 
     @Test
@@ -2,12 +2,15 @@ package ro.unibuc.hello.controller;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.utility.TestcontainersConfiguration;
+import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
+import ro.unibuc.hello.data.repository.GameRepository;
 import ro.unibuc.hello.data.repository.UserRepository;
 import ro.unibuc.hello.dto.Developer;
 import ro.unibuc.hello.utils.GenericControllerIntegrationTest;
@@ -42,6 +45,9 @@ public class DeveloperControllerIntegrationTest extends GenericControllerIntegra
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private GameRepository gameRepository;
+
     @Autowired
     private DeveloperController developerController;
 
@@ -55,6 +61,14 @@ public class DeveloperControllerIntegrationTest extends GenericControllerIntegra
         return developerController;
     }
 
+    private List<GameEntity> getGamesByTitle(UserEntity developer) {
+        return gameRepository
+                .findAll(Sort.by("title"))
+                .stream()
+                .filter(game -> game.getDeveloper().getId().equals(developer.getId()))
+                .toList();
+    }
+
     @Test
     void testGetDeveloperById_ValidId() throws Exception {
         UserEntity developerDB = userRepository.findByIdAndRole(getUserId(Role.DEVELOPER), Role.DEVELOPER);
@@ -77,10 +91,12 @@ public class DeveloperControllerIntegrationTest extends GenericControllerIntegra
     void testGetDeveloperGames_ValidId() throws Exception {
         UserEntity developerDB = userRepository.findByIdAndRole(getUserId(Role.DEVELOPER), Role.DEVELOPER);
 
+        List<GameEntity> gamesDB = getGamesByTitle(developerDB);
+
         performGet(null, "/{id}/games", developerDB.getId())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(developerDB.getGames().size())))
-                .andExpect(matchAll(developerDB.getGames(), GAME_FIELDS));
+                .andExpect(jsonPath("$.items", hasSize(gamesDB.size())))
+                .andExpect(matchAll(".items", gamesDB, GAME_FIELDS));
     }
 
     @Test
@@ -106,10 +122,13 @@ public class DeveloperControllerIntegrationTest extends GenericControllerIntegra
     void testGetMyGames_Authenticated() throws Exception {
         UserEntity developerDB = userRepository.findByIdAndRole(getUserId(Role.DEVELOPER), Role.DEVELOPER);
 
-        performGet(getAccessToken(Role.DEVELOPER), "/myGames")
+        List<GameEntity> gamesDB = getGamesByTitle(developerDB);
+
+        performGet(getAccessToken(Role.DEVELOPER), "/myGames?limit={limit}", 1)
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(developerDB.getGames().size())))
-                .andExpect(matchAll(developerDB.getGames(), GAME_FIELDS));
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor").value(gamesDB.getFirst().getTitle()))
+                .andExpect(matchAll(".items", gamesDB.subList(0, 1), GAME_FIELDS));
     }
 
     @Test
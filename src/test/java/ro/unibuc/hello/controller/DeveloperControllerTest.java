@@ -9,6 +9,7 @@ import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
 import ro.unibuc.hello.dto.Developer;
+import ro.unibuc.hello.dto.GamePage;
 import ro.unibuc.hello.exception.NotFoundException;
 import ro.unibuc.hello.service.DeveloperService;
 import ro.unibuc.hello.utils.GenericControllerTest;
@@ -75,19 +76,20 @@ public class DeveloperControllerTest extends GenericControllerTest<DeveloperCont
         UserEntity mockDeveloper = mockDeveloperAuth();
         GameEntity mockGame = buildGame();
         GameEntity mockDLC = buildDLCForGame(mockGame);
-        when(developerService.getGames(mockDeveloper.getId())).thenReturn(List.of(mockGame, mockDLC));
+        when(developerService.getGames(mockDeveloper.getId(), "", 50)).thenReturn(new GamePage(List.of(mockGame, mockDLC), null));
 
         performGet(null, "/{id}/games", mockDeveloper.getId())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(matchAll(List.of(mockGame, mockDLC), GAME_FIELDS));
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(matchAll(".items", List.of(mockGame, mockDLC), GAME_FIELDS));
     }
 
     @Test
     void testGetDeveloperGames_InvalidId() throws Exception {
         final String id = "id-invalid";
         final String errorMessage = String.format("No %s found at id %s", UserEntity.Role.DEVELOPER.toString().toLowerCase(), id);
-        when(developerService.getGames(id)).thenThrow(new NotFoundException(errorMessage));
+        when(developerService.getGames(id, "", 50)).thenThrow(new NotFoundException(errorMessage));
 
         performGet(null, "/{id}/games", id)
                 .andExpect(status().isBadRequest())
@@ -110,12 +112,13 @@ public class DeveloperControllerTest extends GenericControllerTest<DeveloperCont
     void testGetMyGames_Authenticated() throws Exception {
         GameEntity mockGame = buildGame();
         GameEntity mockDLC = buildDLCForGame(mockGame);
-        when(developerService.getGames()).thenReturn(List.of(mockGame, mockDLC));
+        when(developerService.getGames(mockGame.getTitle(), 1)).thenReturn(new GamePage(List.of(mockDLC), mockDLC.getTitle()));
 
-        performGet(getMockedAccessToken(UserEntity.Role.DEVELOPER), "/myGames")
+        performGet(getMockedAccessToken(UserEntity.Role.DEVELOPER), "/myGames?cursor={cursor}&limit={limit}", mockGame.getTitle(), 1)
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(matchAll(List.of(mockGame, mockDLC), GAME_FIELDS));
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor").value(mockDLC.getTitle()))
+                .andExpect(matchAll(".items", List.of(mockDLC), GAME_FIELDS));
     }
 
     @Test
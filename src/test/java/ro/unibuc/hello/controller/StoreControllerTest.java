@@ -7,6 +7,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.dto.GamePage;
 import ro.unibuc.hello.service.StoreService;
 import ro.unibuc.hello.utils.GenericControllerTest;
 
@@ -51,12 +52,13 @@ class StoreControllerTest extends GenericControllerTest<StoreController> {
     void testGetStore_AllGames() throws Exception {
         hideOwned = false;
         List<GameEntity> games = buildGames(3);
-        when(storeService.getStore(hideOwned)).thenReturn(games);
+        when(storeService.getStore(hideOwned, "", 50)).thenReturn(new GamePage(games, null));
 
         performGet(getMockedAccessToken(Role.CUSTOMER),"?hideOwned={hideOwned}", hideOwned)
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(3)))
-                .andExpect(matchAll(games, GAME_FIELDS));
+                .andExpect(jsonPath("$.items", hasSize(3)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(matchAll(".items", games, GAME_FIELDS));
     }
 
     @Test
@@ -65,12 +67,26 @@ class StoreControllerTest extends GenericControllerTest<StoreController> {
         List<GameEntity> games = buildGames(3);
         List<GameEntity> owned_games = List.of(games.get(0));
         games.removeAll(owned_games);
-        when(storeService.getStore(hideOwned)).thenReturn(games);
+        when(storeService.getStore(hideOwned, "", 50)).thenReturn(new GamePage(games, null));
 
         performGet(getMockedAccessToken(Role.CUSTOMER),"?hideOwned={hideOwned}", hideOwned)
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(matchAll(games, GAME_FIELDS));
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(matchAll(".items", games, GAME_FIELDS));
+    }
+
+    @Test
+    void testGetStore_NextPage() throws Exception {
+        hideOwned = false;
+        List<GameEntity> games = buildGames(2);
+        String cursor = games.get(1).getTitle();
+        when(storeService.getStore(hideOwned, "Game 0", 2)).thenReturn(new GamePage(games, cursor));
+
+        performGet(getMockedAccessToken(Role.CUSTOMER),"?hideOwned={hideOwned}&cursor={cursor}&limit={limit}", hideOwned, "Game 0", 2)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.nextCursor").value(cursor))
+                .andExpect(matchAll(".items", games, GAME_FIELDS));
     }
 
     @Test
@@ -9,7 +9,9 @@ import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
 import ro.unibuc.hello.data.entity.WishlistEntity;
+import ro.unibuc.hello.dto.BatchResult;
 import ro.unibuc.hello.exception.NotFoundException;
+import ro.unibuc.hello.exception.ValidationException;
 import ro.unibuc.hello.service.WishlistService;
 import ro.unibuc.hello.utils.GenericControllerTest;
 
@@ -74,6 +76,41 @@ class WishlistControllerTest extends GenericControllerTest<WishlistController> {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    void testAddAllToWishlist_Valid() throws Exception {
+        List<String> gameIds = List.of("1", "2");
+        when(wishlistService.addAllToWishlist(gameIds)).thenReturn(List.of(
+                BatchResult.added("1"),
+                BatchResult.rejected("2", "%s already in wishlist", "Game 2")
+        ));
+
+        performPost(gameIds, getMockedAccessToken(Role.CUSTOMER), "/batch")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].gameId").value("1"))
+                .andExpect(jsonPath("$[0].added").value(true))
+                .andExpect(jsonPath("$[0].error").doesNotExist())
+                .andExpect(jsonPath("$[1].added").value(false))
+                .andExpect(jsonPath("$[1].error").value("Game 2 already in wishlist"));
+    }
+
+    @Test
+    void testAddAllToWishlist_InvalidBatch() throws Exception {
+        String errorMessage = "A batch must have between 1 and 500 game ids!";
+        when(wishlistService.addAllToWishlist(anyList())).thenThrow(new ValidationException(errorMessage));
+
+        performPost(List.of(), getMockedAccessToken(Role.CUSTOMER), "/batch")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(errorMessage));
+    }
+
+    @Test
+    void testAddAllToWishlist_InvalidRole() throws Exception {
+        performPost(List.of(ID), getMockedAccessToken(Role.DEVELOPER), "/batch")
+                .andExpect(status().isUnauthorized());
+        verify(wishlistService, never()).addAllToWishlist(anyList());
+    }
+
     @Test
     void testAddToWishlist_Valid() throws Exception {
         UserEntity customer = mockCustomerAuth();
@@ -0,0 +1,150 @@
+package ro.unibuc.hello.data.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.TestcontainersConfiguration;
+import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.data.entity.LibraryEntity;
+import ro.unibuc.hello.data.entity.UserEntity;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ro.unibuc.hello.data.entity.LibraryEntity.buildLibraryEntry;
+import static ro.unibuc.hello.data.entity.UserEntity.Role;
+import static ro.unibuc.hello.data.entity.UserEntity.UserDetails;
+
+@SpringBootTest
+@Testcontainers
+@Tag("IntegrationTest")
+public class GameCollectionRepositoryBenchmarkIntegrationTest {
+
+    static {
+        TestcontainersConfiguration
+                .getInstance()
+                .updateUserConfig("ryuk.container.privileged", "true");
+    }
+
+    @Container
+    private final static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:6.0.20")
+            .withExposedPorts(27017)
+            .withSharding();
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("mongodb.connection.url", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    private static final int LIBRARY_SIZE = 500;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 10;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private LibraryRepository libraryRepository;
+
+    private UserEntity developer;
+
+    private UserEntity customer;
+
+    private List<GameEntity> games;
+
+    @BeforeEach
+    void seedLibrary() {
+        developer = userRepository.save(new UserEntity(
+                "benchmark-developer",
+                "BenchmarkDeveloper",
+                "BenchmarkDeveloper1234",
+                "contact@benchmark.com",
+                Role.DEVELOPER,
+                UserDetails.forDeveloper("Benchmark Studio", "https://benchmark.com")
+        ));
+        customer = userRepository.save(new UserEntity(
+                "benchmark-customer",
+                "BenchmarkCustomer",
+                "BenchmarkCustomer1234",
+                "benchmark@gmail.com",
+                Role.CUSTOMER,
+                UserDetails.forCustomer("Benchmark", "Customer")
+        ));
+
+        games = gameRepository.saveAll(IntStream.range(0, LIBRARY_SIZE)
+                .mapToObj(i -> {
+                    GameEntity game = GameEntity.buildGame(String.format("Benchmark Game %d", i), 59.99, 0, 100, developer);
+                    game.setId(String.format("benchmark-game-%d", i));
+                    return game;
+                })
+                .toList());
+        libraryRepository.insert(games.stream()
+                .map(game -> buildLibraryEntry(game, customer))
+                .toList());
+    }
+
+    @AfterEach
+    void cleanLibrary() {
+        libraryRepository.deleteById_CustomerId(customer.getId());
+        gameRepository.deleteAll(games);
+        userRepository.deleteAll(List.of(developer, customer));
+    }
+
+    private List<GameEntity> getGamesByReferences() {
+        return libraryRepository.findById_CustomerId(customer.getId())
+                .stream()
+                .map(LibraryEntity::getGame)
+                .toList();
+    }
+
+    private List<GameEntity> getGamesByAggregation() {
+        return libraryRepository.getGamesByCustomer(customer);
+    }
+
+    private static double averageMillis(Supplier<List<GameEntity>> loader) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            loader.get();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            assertEquals(LIBRARY_SIZE, loader.get().size());
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_ROUNDS;
+    }
+
+    @Test
+    void testGetGamesByCustomer_AggregationMatchesReferences() {
+        assertEquals(getGamesByReferences(), getGamesByAggregation());
+    }
+
+    @Test
+    void testGetGamesByCustomer_AggregationIsFaster() {
+        double referencesMillis = averageMillis(this::getGamesByReferences);
+        double aggregationMillis = averageMillis(this::getGamesByAggregation);
+
+        System.out.printf(
+                "getGamesByCustomer over %d games: @DBRef %.2f ms, aggregation %.2f ms (%.1fx)%n",
+                LIBRARY_SIZE,
+                referencesMillis,
+                aggregationMillis,
+                referencesMillis / aggregationMillis
+        );
+        assertTrue(aggregationMillis < referencesMillis);
+    }
+
+}
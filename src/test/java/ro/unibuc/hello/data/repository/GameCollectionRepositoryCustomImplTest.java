@@ -0,0 +1,69 @@
+package ro.unibuc.hello.data.repository;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import ro.unibuc.hello.data.entity.GameEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GameCollectionRepositoryCustomImplTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    private final GameCollectionRepositoryCustomImpl repository = new GameCollectionRepositoryCustomImpl(mongoTemplate);
+
+    private List<String> stages(Runnable call) {
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        when(mongoTemplate.aggregate(aggregation.capture(), eq("library"), eq(GameEntity.class)))
+                .thenReturn(new AggregationResults<>(List.of(), new Document()));
+
+        call.run();
+
+        return aggregation
+                .getValue()
+                .toPipeline(Aggregation.DEFAULT_CONTEXT)
+                .stream()
+                .map(Document::toJson)
+                .toList();
+    }
+
+    private static int indexOf(List<String> stages, String operator) {
+        for (int i = 0; i < stages.size(); ++i) {
+            if (stages.get(i).startsWith("{\"" + operator + "\"")) return i;
+        }
+        return -1;
+    }
+
+    @Test
+    void testFindGamesByCustomerId_PageCutBeforeLookup() {
+        List<String> stages = stages(() -> repository.findGamesByCustomerId("library", "customer", "game5", 10));
+
+        String match = stages.get(0);
+        assertTrue(match.contains("\"_id.customerId\": \"customer\""));
+        assertTrue(match.contains("\"_id.gameId\": {\"$gt\": \"game5\"}"));
+        assertEquals(1, indexOf(stages, "$sort"));
+        assertTrue(stages.get(1).contains("\"_id.gameId\": 1"));
+        assertEquals(2, indexOf(stages, "$limit"));
+        assertTrue(indexOf(stages, "$lookup") > indexOf(stages, "$limit"));
+        assertEquals(1, stages.stream().filter(stage -> stage.contains("$match")).count());
+        assertTrue(stages.stream().noneMatch(stage -> stage.contains("title")));
+    }
+
+    @Test
+    void testFindGamesByCustomerId_WholeCollection() {
+        List<String> stages = stages(() -> repository.findGamesByCustomerId("library", "customer"));
+
+        assertTrue(stages.get(0).contains("\"_id.customerId\": \"customer\""));
+        assertEquals(-1, indexOf(stages, "$limit"));
+        assertEquals(-1, indexOf(stages, "$sort"));
+        assertEquals(1, stages.stream().filter(stage -> stage.contains("$lookup")).count());
+    }
+
+}
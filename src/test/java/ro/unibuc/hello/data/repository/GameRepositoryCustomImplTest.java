@@ -0,0 +1,152 @@
+package ro.unibuc.hello.data.repository;
+
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.data.entity.GameStockEntity;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static ro.unibuc.hello.utils.GameTestUtils.buildGames;
+
+class GameRepositoryCustomImplTest {
+
+    private static final int SHARDS = 4;
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    private final BulkOperations bulkOperations = mock(BulkOperations.class);
+
+    private final GameRepositoryCustomImpl documentStock = new GameRepositoryCustomImpl(mongoTemplate, 1);
+
+    private final GameRepositoryCustomImpl shardedStock = new GameRepositoryCustomImpl(mongoTemplate, SHARDS);
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(GameStockEntity.class))).thenReturn(bulkOperations);
+    }
+
+    private static UpdateResult modified(long count) {
+        return UpdateResult.acknowledged(count, count, null);
+    }
+
+    private void stubTake(Class<?> entityClass, UpdateResult result, UpdateResult... results) {
+        when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(entityClass))).thenReturn(result, results);
+    }
+
+    @Test
+    void testConstructor_NoShards() {
+        assertThrows(IllegalArgumentException.class, () -> new GameRepositoryCustomImpl(mongoTemplate, 0));
+    }
+
+    @Test
+    void testReserveKey_Document() {
+        stubTake(GameEntity.class, modified(1));
+
+        assertTrue(documentStock.reserveKey("game"));
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(UpdateDefinition.class), eq(GameStockEntity.class));
+    }
+
+    @Test
+    void testReserveKey_RandomShard() {
+        stubTake(GameStockEntity.class, modified(1));
+
+        assertTrue(shardedStock.reserveKey("game"));
+        verify(mongoTemplate, times(1)).updateFirst(any(Query.class), any(UpdateDefinition.class), eq(GameStockEntity.class));
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(UpdateDefinition.class), eq(GameEntity.class));
+    }
+
+    @Test
+    void testReserveKey_DrainsGameKeys() {
+        stubTake(GameStockEntity.class, modified(0), modified(0), modified(1));
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class), eq(GameEntity.class)))
+                .thenReturn(GameEntity.builder().id("game").keys(10).build());
+
+        assertTrue(shardedStock.reserveKey("game"));
+        verify(bulkOperations, times(SHARDS)).upsert(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(1)).execute();
+        verify(mongoTemplate, times(3)).updateFirst(any(Query.class), any(UpdateDefinition.class), eq(GameStockEntity.class));
+    }
+
+    @Test
+    void testReserveKey_SoldOut() {
+        stubTake(GameStockEntity.class, modified(0));
+
+        assertFalse(shardedStock.reserveKey("game"));
+        verify(mongoTemplate, times(3)).updateFirst(any(Query.class), any(UpdateDefinition.class), eq(GameStockEntity.class));
+        verify(bulkOperations, never()).execute();
+    }
+
+    @Test
+    void testReleaseKeys_Sharded() {
+        shardedStock.releaseKeys(List.of("game", "dlc"));
+
+        verify(bulkOperations, times(2)).upsert(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(1)).execute();
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(UpdateDefinition.class), eq(GameEntity.class));
+    }
+
+    @Test
+    void testAddKeys_Document() {
+        documentStock.addKeys("game", 10);
+
+        verify(mongoTemplate, times(1)).updateFirst(any(Query.class), any(UpdateDefinition.class), eq(GameEntity.class));
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(GameStockEntity.class));
+    }
+
+    @Test
+    void testLoadKeys_Document() {
+        List<GameEntity> games = buildGames(2);
+
+        assertSame(games, documentStock.loadKeys(games));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void testLoadKeys_Sharded() {
+        List<GameEntity> games = buildGames(2);
+        GameEntity first = games.get(0);
+        GameEntity second = games.get(1);
+        int firstKeys = first.getKeys();
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(GameStockEntity.class), eq(Document.class))).thenReturn(new AggregationResults<>(
+                List.of(new Document("_id", first.getId()).append("keys", 25)),
+                new Document()
+        ));
+
+        List<GameEntity> loadedGames = shardedStock.loadKeys(games);
+
+        assertEquals(firstKeys + 25, loadedGames.get(0).getKeys());
+        assertEquals(second.getKeys(), loadedGames.get(1).getKeys());
+        assertEquals(firstKeys, first.getKeys());
+    }
+
+    @Test
+    void testUpdateDetails_SetsOnlyEditedFields() {
+        GameEntity game = buildGames(1).get(0);
+        GameEntity storedGame = GameEntity.builder().id(game.getId()).title(game.getTitle()).keys(7).build();
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        when(mongoTemplate.findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class), eq(GameEntity.class)))
+                .thenReturn(storedGame);
+
+        assertSame(storedGame, documentStock.updateDetails(game));
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertEquals(Set.of("title", "priceCents", "discountPercentage"), set.keySet());
+        assertEquals(game.getTitle(), set.get("title"));
+        assertEquals(1, update.getValue().getUpdateObject().size());
+    }
+
+}
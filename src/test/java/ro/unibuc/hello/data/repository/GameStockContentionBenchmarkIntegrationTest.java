@@ -0,0 +1,168 @@
+package ro.unibuc.hello.data.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.TestcontainersConfiguration;
+import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.data.entity.GameStockEntity;
+import ro.unibuc.hello.data.entity.UserEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+import static ro.unibuc.hello.data.entity.UserEntity.Role;
+import static ro.unibuc.hello.data.entity.UserEntity.UserDetails;
+
+// Checkouts of a single hyped title: every thread takes keys of the same game, which is where a single keys counter
+// serializes the writes. Run with ./gradlew testIT --tests '*GameStockContention*' and compare the printed rates
+@SpringBootTest
+@Testcontainers
+@Tag("IntegrationTest")
+public class GameStockContentionBenchmarkIntegrationTest {
+
+    static {
+        TestcontainersConfiguration
+                .getInstance()
+                .updateUserConfig("ryuk.container.privileged", "true");
+    }
+
+    @Container
+    private final static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:6.0.20")
+            .withExposedPorts(27017)
+            .withSharding();
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("mongodb.connection.url", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    private static final List<Integer> SHARD_COUNTS = List.of(1, 2, 4, 8, 16, 32);
+    private static final int THREADS = 64;
+    private static final int CHECKOUTS_PER_THREAD = 200;
+    private static final int SOLD_OUT_KEYS = 1000;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    private UserEntity developer;
+
+    private GameEntity game;
+
+    @BeforeEach
+    void seedGame() {
+        developer = userRepository.save(new UserEntity(
+                "benchmark-developer",
+                "BenchmarkDeveloper",
+                "BenchmarkDeveloper1234",
+                "contact@benchmark.com",
+                Role.DEVELOPER,
+                UserDetails.forDeveloper("Benchmark Studio", "https://benchmark.com")
+        ));
+        game = GameEntity.buildGame("Benchmark Release", 59.99, 0, 0, developer);
+        game.setId("benchmark-release");
+        game = gameRepository.save(game);
+    }
+
+    @AfterEach
+    void cleanGame() {
+        mongoTemplate.remove(query(where("gameId").is(game.getId())), GameStockEntity.class);
+        gameRepository.delete(game);
+        userRepository.delete(developer);
+    }
+
+    private void resetStock(GameRepositoryCustomImpl stock, int keys) {
+        mongoTemplate.remove(query(where("gameId").is(game.getId())), GameStockEntity.class);
+        stock.clearKeys(game.getId());
+        stock.addKeys(game.getId(), keys);
+    }
+
+    private int totalKeys(GameRepositoryCustomImpl stock) {
+        GameEntity storedGame = gameRepository.findById(game.getId()).orElseThrow();
+        List<GameEntity> games = stock.loadKeys(List.of(storedGame));
+        return games.getFirst().getKeys();
+    }
+
+    // Number of keys taken, every thread starts at once and checks out until it has tried its share
+    private int checkout(GameRepositoryCustomImpl stock, int checkoutsPerThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger taken = new AtomicInteger();
+        try {
+            List<Future<?>> threads = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                threads.add(executor.submit(() -> {
+                    start.await();
+                    for (int checkout = 0; checkout < checkoutsPerThread; checkout++) {
+                        if (stock.reserveKey(game.getId())) taken.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> thread : threads) {
+                thread.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return taken.get();
+    }
+
+    @Test
+    void testReserveKey_ThroughputByShards() throws Exception {
+        int checkouts = THREADS * CHECKOUTS_PER_THREAD;
+        for (int shards : SHARD_COUNTS) {
+            GameRepositoryCustomImpl stock = new GameRepositoryCustomImpl(mongoTemplate, shards);
+            resetStock(stock, 2 * checkouts);
+            checkout(stock, CHECKOUTS_PER_THREAD / 10);
+            resetStock(stock, 2 * checkouts);
+
+            long start = System.nanoTime();
+            int taken = checkout(stock, CHECKOUTS_PER_THREAD);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf(
+                    "reserveKey of one game, %d threads, %2d shards: %8.0f checkouts/s%n",
+                    THREADS,
+                    shards,
+                    taken / seconds
+            );
+            assertEquals(checkouts, taken);
+            assertEquals(checkouts, totalKeys(stock));
+        }
+    }
+
+    @Test
+    void testReserveKey_SellsOutExactly() throws Exception {
+        for (int shards : SHARD_COUNTS) {
+            GameRepositoryCustomImpl stock = new GameRepositoryCustomImpl(mongoTemplate, shards);
+            resetStock(stock, 0);
+            gameRepository.save(game.withKeys(SOLD_OUT_KEYS));
+
+            assertEquals(SOLD_OUT_KEYS, checkout(stock, 2 * SOLD_OUT_KEYS / THREADS));
+            assertEquals(0, totalKeys(stock));
+        }
+    }
+
+}
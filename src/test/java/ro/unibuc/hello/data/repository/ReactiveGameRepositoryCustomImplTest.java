@@ -0,0 +1,46 @@
+package ro.unibuc.hello.data.repository;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.data.entity.GameStockEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static ro.unibuc.hello.utils.GameTestUtils.buildGames;
+
+class ReactiveGameRepositoryCustomImplTest {
+
+    private final ReactiveMongoTemplate mongoTemplate = mock(ReactiveMongoTemplate.class);
+
+    @Test
+    void testLoadKeys_Document() {
+        Flux<GameEntity> games = Flux.fromIterable(buildGames(2));
+
+        assertSame(games, new ReactiveGameRepositoryCustomImpl(mongoTemplate, 1).loadKeys(games));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void testLoadKeys_Sharded() {
+        List<GameEntity> games = buildGames(2);
+        GameEntity first = games.get(0);
+        GameEntity second = games.get(1);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(GameStockEntity.class), eq(Document.class)))
+                .thenReturn(Flux.just(new Document("_id", first.getId()).append("keys", 25)));
+
+        StepVerifier
+                .create(new ReactiveGameRepositoryCustomImpl(mongoTemplate, 4).loadKeys(Flux.fromIterable(games)))
+                .assertNext(game -> assertEquals(first.getKeys() + 25, game.getKeys()))
+                .assertNext(game -> assertEquals(second.getKeys(), game.getKeys()))
+                .verifyComplete();
+        verify(mongoTemplate, times(1)).aggregate(any(Aggregation.class), eq(GameStockEntity.class), eq(Document.class));
+    }
+
+}
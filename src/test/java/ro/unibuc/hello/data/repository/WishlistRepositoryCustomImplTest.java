@@ -0,0 +1,58 @@
+package ro.unibuc.hello.data.repository;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WishlistRepositoryCustomImplTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    private List<String> stages(int stockShards) {
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        when(mongoTemplate.aggregate(aggregation.capture(), eq("wishlist"), eq(Document.class))).thenReturn(new AggregationResults<>(
+                List.of(new Document("_id", new Document("gameId", "1").append("customerId", "customer"))),
+                new Document()
+        ));
+
+        List<String> gameIds = new WishlistRepositoryCustomImpl(mongoTemplate, stockShards).findGameIdsToMoveToCart("customer");
+
+        assertEquals(List.of("1"), gameIds);
+        return aggregation
+                .getValue()
+                .toPipeline(Aggregation.DEFAULT_CONTEXT)
+                .stream()
+                .map(Document::toJson)
+                .toList();
+    }
+
+    @Test
+    void testFindGameIdsToMoveToCart_OneAggregation() {
+        List<String> stages = stages(1);
+
+        assertTrue(stages.getFirst().contains("\"_id.customerId\": \"customer\""));
+        assertEquals(3, stages.stream().filter(stage -> stage.contains("$lookup")).count());
+        assertTrue(stages.stream().noneMatch(stage -> stage.contains("game_stock")));
+        assertTrue(stages.stream().anyMatch(stage -> stage.contains("\"from\": \"library\"") && stage.contains("\"localField\": \"_id\"")));
+        assertTrue(stages.stream().anyMatch(stage -> stage.contains("\"from\": \"cart\"") && stage.contains("\"localField\": \"_id\"")));
+        verify(mongoTemplate, times(1)).aggregate(any(Aggregation.class), anyString(), eq(Document.class));
+        verifyNoMoreInteractions(mongoTemplate);
+    }
+
+    @Test
+    void testFindGameIdsToMoveToCart_ShardedStock() {
+        List<String> stages = stages(4);
+
+        assertTrue(stages.stream().anyMatch(stage -> stage.contains("\"from\": \"game_stock\"")));
+        assertTrue(stages.stream().anyMatch(stage -> stage.contains("$sum")));
+    }
+
+}
@@ -0,0 +1,171 @@
+package ro.unibuc.hello.security;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import ro.unibuc.hello.aspect.RoleAuthorizationAspect;
+import ro.unibuc.hello.data.entity.UserEntity;
+import ro.unibuc.hello.data.repository.GameRepository;
+import ro.unibuc.hello.data.repository.LibraryRepository;
+import ro.unibuc.hello.data.repository.UserRepository;
+import ro.unibuc.hello.dto.Customer;
+import ro.unibuc.hello.exception.UnauthorizedAccessException;
+import ro.unibuc.hello.security.jwt.JWTAuthenticationToken;
+import ro.unibuc.hello.security.jwt.JWTFilter;
+import ro.unibuc.hello.service.CustomerService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.*;
+import static ro.unibuc.hello.data.entity.UserEntity.Role;
+import static ro.unibuc.hello.data.entity.UserEntity.UserDetails;
+import static ro.unibuc.hello.utils.AuthenticationTestUtils.*;
+
+public class AuthenticationUtilsTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private LibraryRepository libraryRepository;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @InjectMocks
+    private CustomerService customerService = new CustomerService();
+
+    private final RoleAuthorizationAspect roleAuthorizationAspect = new RoleAuthorizationAspect();
+
+    private final JWTFilter jwtFilter = new JWTFilter();
+
+    private UserEntity customer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        AuthenticationUtils.setUserRepository(userRepository);
+        ReflectionTestUtils.setField(jwtFilter, "jwtService", jwtService);
+        SecurityContextHolder.clearContext();
+        when(gameRepository.loadKeys(anyList())).thenAnswer(returnsFirstArg());
+
+        customer = buildCustomer("customer_id", "customer");
+        when(userRepository.findById(customer.getId())).thenReturn(Optional.of(customer));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static UserEntity buildCustomer(String id, String username) {
+        return UserEntity.builder()
+                .id(id)
+                .username(username)
+                .password("customer123-PASSWORD")
+                .email(username + "@gmail.com")
+                .role(Role.CUSTOMER)
+                .details(UserDetails.forCustomer("customer-firstName", "customer-lastName"))
+                .build();
+    }
+
+    private JWTAuthenticationToken authenticate(UserEntity user) {
+        JWTAuthenticationToken token = new JWTAuthenticationToken(user.getId());
+        SecurityContextHolder.getContext().setAuthentication(token);
+        return token;
+    }
+
+    // Runs one request through the filter and records the user every call resolves inside it
+    private List<UserEntity> runRequest(String userId, int calls) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + jwtService.getToken(userId));
+
+        List<UserEntity> users = new ArrayList<>();
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                for (int i = 0; i < calls; ++i) {
+                    users.add(AuthenticationUtils.getUser());
+                }
+            }
+        });
+
+        return users;
+    }
+
+    @Test
+    void testGetUser_SingleLookupForAspectAndService() {
+        JWTAuthenticationToken token = authenticate(customer);
+        when(libraryRepository.getGamesByCustomerId(customer.getId(), null, 10)).thenReturn(List.of());
+
+        roleAuthorizationAspect.checkCustomerAuthorization();
+        customerService.getGames(null, 10);
+        UserEntity user = AuthenticationUtils.getAuthorizedUser(Role.CUSTOMER);
+
+        assertSame(customer, user);
+        assertEquals(1, token.getUserLookups());
+        verify(userRepository, times(1)).findById(customer.getId());
+    }
+
+    @Test
+    void testGetUser_WrongRoleDoesNotLookUpAgain() {
+        JWTAuthenticationToken token = authenticate(customer);
+
+        roleAuthorizationAspect.checkCustomerAuthorization();
+        assertThrows(UnauthorizedAccessException.class, roleAuthorizationAspect::checkDeveloperAuthorization);
+
+        assertEquals(1, token.getUserLookups());
+        verify(userRepository, times(1)).findById(customer.getId());
+    }
+
+    @Test
+    void testUpdateLoggedUser_RefreshesCachedUser() {
+        JWTAuthenticationToken token = authenticate(customer);
+        Customer customerInput = mockUpdatedCustomerInput();
+        UserEntity updatedCustomer = buildCustomer(customer.getId(), customerInput.getUsername());
+        when(userRepository.save(customer)).thenReturn(customer);
+
+        assertSame(customer, AuthenticationUtils.getUser());
+        customerService.updateLoggedUser(customerInput);
+        when(userRepository.findById(customer.getId())).thenReturn(Optional.of(updatedCustomer));
+        UserEntity user = AuthenticationUtils.getUser();
+
+        assertSame(updatedCustomer, user);
+        assertEquals(customerInput.getUsername(), user.getUsername());
+        assertEquals(2, token.getUserLookups());
+        assertSame(updatedCustomer, AuthenticationUtils.getUser());
+        verify(userRepository, times(2)).findById(customer.getId());
+    }
+
+    @Test
+    void testJWTFilter_CachedUserDoesNotLeakBetweenRequests() throws Exception {
+        UserEntity otherCustomer = buildCustomer("other_customer_id", "other-customer");
+        when(userRepository.findById(otherCustomer.getId())).thenReturn(Optional.of(otherCustomer));
+
+        List<UserEntity> firstRequest = runRequest(customer.getId(), 3);
+        List<UserEntity> secondRequest = runRequest(otherCustomer.getId(), 3);
+        List<UserEntity> thirdRequest = runRequest(customer.getId(), 1);
+
+        assertEquals(List.of(customer, customer, customer), firstRequest);
+        assertEquals(List.of(otherCustomer, otherCustomer, otherCustomer), secondRequest);
+        assertEquals(List.of(customer), thirdRequest);
+        // One lookup per request, the third one does not reuse the user cached by the first
+        verify(userRepository, times(2)).findById(customer.getId());
+        verify(userRepository, times(1)).findById(otherCustomer.getId());
+    }
+
+}
@@ -0,0 +1,55 @@
+package ro.unibuc.hello.security.jwt;
+
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JWTServiceTest {
+
+    private static final String secretKey = "8a05a7ec81fd773513f88bb33b0ea42b436902d88fc4d9b0dec15d402dfad4c3";
+
+    private JWTService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JWTService(secretKey, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void testExtractUserId_Valid() {
+        String token = jwtService.getToken("user_id");
+
+        assertEquals("user_id", jwtService.extractUserId(token));
+        assertEquals(0, jwtService.getVerifiedTokens().stats().hitCount());
+        assertEquals(1, jwtService.getVerifiedTokens().stats().missCount());
+    }
+
+    @Test
+    void testExtractUserId_Cached() {
+        String token = jwtService.getToken("user_id");
+
+        jwtService.extractUserId(token);
+        assertEquals("user_id", jwtService.extractUserId(token));
+        assertEquals(1, jwtService.getVerifiedTokens().stats().hitCount());
+        assertEquals(1, jwtService.getVerifiedTokens().stats().missCount());
+        assertEquals(1, jwtService.getVerifiedTokens().estimatedSize());
+    }
+
+    @Test
+    void testExtractUserId_InvalidSignature() {
+        String token = new JWTService(
+                "0b05a7ec81fd773513f88bb33b0ea42b436902d88fc4d9b0dec15d402dfad4c3",
+                100,
+                Duration.ofMinutes(5)
+        ).getToken("user_id");
+
+        assertThrows(SignatureException.class, () -> jwtService.extractUserId(token));
+        assertThrows(SignatureException.class, () -> jwtService.extractUserId(token));
+        assertEquals(0, jwtService.getVerifiedTokens().estimatedSize());
+    }
+
+}
@@ -6,6 +6,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DuplicateKeyException;
 import ro.unibuc.hello.data.entity.CartEntity;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.LibraryEntity;
@@ -14,15 +15,18 @@ import ro.unibuc.hello.data.repository.CartRepository;
 import ro.unibuc.hello.data.repository.GameRepository;
 import ro.unibuc.hello.data.repository.LibraryRepository;
 import ro.unibuc.hello.data.repository.WishlistRepository;
+import ro.unibuc.hello.dto.BatchResult;
 import ro.unibuc.hello.dto.CartInfo;
 import ro.unibuc.hello.exception.NotFoundException;
 import ro.unibuc.hello.exception.ValidationException;
+import ro.unibuc.hello.utils.TransactionRunner;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
-import static java.lang.Math.max;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Mockito.*;
 import static ro.unibuc.hello.data.entity.CartEntity.buildCartEntry;
 import static ro.unibuc.hello.data.entity.GameEntity.totalPrice;
@@ -31,6 +35,8 @@ import static ro.unibuc.hello.utils.AuthenticationTestUtils.resetMockedAccessTok
 import static ro.unibuc.hello.utils.DatabaseUtils.CompositeKey;
 import static ro.unibuc.hello.utils.GameTestUtils.buildGame;
 import static ro.unibuc.hello.utils.GameTestUtils.buildGames;
+import static ro.unibuc.hello.utils.GameTestUtils.gamesById;
+import static ro.unibuc.hello.utils.GameTestUtils.mockContents;
 
 class CartServiceTest {
 
@@ -52,6 +58,12 @@ class CartServiceTest {
     @Mock
     protected GameService gameService;
 
+    @Mock
+    protected TransactionRunner transactionRunner;
+
+    @Mock
+    protected ReservationService reservationService;
+
     @InjectMocks
     private CartService cartService;
 
@@ -61,6 +73,11 @@ class CartServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         resetMockedAccessToken();
+        when(gameRepository.loadKeys(anyList())).thenAnswer(returnsFirstArg());
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(transactionRunner).run(any());
     }
 
     @Test
@@ -98,59 +115,43 @@ class CartServiceTest {
     @Test
     void testCheckout_Valid() {
         UserEntity customer = mockCustomerAuth();
-        List<GameEntity> games = buildGames(6);
-        List<Integer> numKeyList = games
-                .stream()
-                .map(GameEntity::getKeys)
-                .toList();
-        List<GameEntity> customerGames = customer.getGames();
-        customerGames.add(games.get(0));
-        customerGames.add(games.get(1));
-        customerGames.add(games.get(2));
-        games.removeAll(customerGames);
-        int initialNumGames = customerGames.size();
-
-        ArgumentCaptor<GameEntity> gameCaptor = ArgumentCaptor.forClass(GameEntity.class);
-        ArgumentCaptor<LibraryEntity> libraryCaptor = ArgumentCaptor.forClass(LibraryEntity.class);
-        ArgumentCaptor<CompositeKey> wishlistCaptor = ArgumentCaptor.forClass(CompositeKey.class);
+        List<GameEntity> games = buildGames(3);
+        List<String> gameIds = games.stream().map(GameEntity::getId).toList();
+
+        ArgumentCaptor<String> gameCaptor = ArgumentCaptor.forClass(String.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LibraryEntity>> libraryCaptor = ArgumentCaptor.forClass(List.class);
 
         when(cartRepository.getGamesByCustomer(customer)).thenReturn(games);
-        when(gameRepository.save(any(GameEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(libraryRepository.save(any(LibraryEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        doNothing().when(wishlistRepository).deleteById(any(CompositeKey.class));
+        when(gameRepository.reserveKey(anyString())).thenReturn(true);
 
         cartService.checkout();
 
+        verify(transactionRunner, times(1)).run(any());
         // capture the arguments and then get the values
-        verify(gameRepository, times(games.size())).save(gameCaptor.capture());
-        List<GameEntity> capturedGameEntities = gameCaptor.getAllValues();
+        verify(gameRepository, times(games.size())).reserveKey(gameCaptor.capture());
+        List<String> capturedGameIds = gameCaptor.getAllValues();
 
-        verify(libraryRepository, times(games.size())).save(libraryCaptor.capture());
-        List<LibraryEntity> capturedLibraryEntities = libraryCaptor.getAllValues();
+        verify(libraryRepository, times(1)).insert(libraryCaptor.capture());
+        List<LibraryEntity> capturedLibraryEntities = libraryCaptor.getValue();
 
-        verify(wishlistRepository, times(games.size())).deleteById(wishlistCaptor.capture());
-        List<CompositeKey> capturedCompositeKeys = wishlistCaptor.getAllValues();
+        verify(wishlistRepository, times(1)).deleteById_CustomerIdAndId_GameIdIn(customer.getId(), gameIds);
+        verify(cartRepository, times(1)).deleteById_CustomerId(customer.getId());
 
-        assertEquals(games.size(), capturedGameEntities.size());
+        verify(gameRepository, never()).releaseKeys(anyCollection());
+        verify(gameRepository, never()).save(any(GameEntity.class));
+        verify(libraryRepository, never()).save(any(LibraryEntity.class));
+        verify(wishlistRepository, never()).deleteById(any(CompositeKey.class));
+        assertEquals(gameIds, capturedGameIds);
         assertEquals(games.size(), capturedLibraryEntities.size());
-        assertEquals(games.size(), capturedCompositeKeys.size());
-        assertEquals(customer.getGames().size(), initialNumGames + games.size());
 
         for (int i = 0; i < games.size(); i++) {
-            GameEntity game = games.get(i);
-
-            assertEquals(max(numKeyList.get(i) - 1, 0), game.getKeys());
+            LibraryEntity libraryEntry = capturedLibraryEntities.get(i);
 
-            assertNotNull(capturedGameEntities.get(i));
-            assertEquals(game.getId(), capturedGameEntities.get(i).getId());
-
-            assertNotNull(capturedLibraryEntities.get(i));
-            assertEquals(game.getId(), capturedLibraryEntities.get(i).getGame().getId());
-
-            assertNotNull(capturedCompositeKeys.get(i));
-            assertEquals(game.getId(), capturedCompositeKeys.get(i).getGameId());
-            assertEquals(customer.getId(), capturedCompositeKeys.get(i).getCustomerId());
-        };
+            assertNotNull(libraryEntry);
+            assertEquals(games.get(i).getId(), libraryEntry.getGame().getId());
+            assertEquals(customer.getId(), libraryEntry.getId().getCustomerId());
+        }
     }
 
     @Test
@@ -158,8 +159,9 @@ class CartServiceTest {
         UserEntity customer = mockCustomerAuth();
         List<GameEntity> games = buildGames(3);
         String notEnoughKeysFormat = "There are no more keys for %s, please remove it from the cart!";
-        games.get(2).setKeys(0);
         when(cartRepository.getGamesByCustomer(customer)).thenReturn(games);
+        when(gameRepository.reserveKey(anyString())).thenReturn(true);
+        when(gameRepository.reserveKey(games.get(2).getId())).thenReturn(false);
 
         ValidationException exception = assertThrows(
                 ValidationException.class,
@@ -167,6 +169,25 @@ class CartServiceTest {
         );
         assertNotNull(exception);
         assertEquals(String.format(notEnoughKeysFormat, games.get(2).getTitle()), exception.getMessage());
+
+        verify(gameRepository, times(1)).releaseKeys(List.of(games.get(0).getId(), games.get(1).getId()));
+        verify(libraryRepository, never()).insert(anyList());
+        verify(wishlistRepository, never()).deleteById_CustomerIdAndId_GameIdIn(anyString(), anyCollection());
+        verify(cartRepository, never()).deleteById_CustomerId(anyString());
+    }
+
+    @Test
+    void testCheckout_CheckedOutMeanwhile() {
+        UserEntity customer = mockCustomerAuth();
+        List<GameEntity> games = buildGames(2);
+        when(cartRepository.getGamesByCustomer(customer)).thenReturn(games);
+        when(gameRepository.reserveKey(anyString())).thenReturn(true);
+        when(libraryRepository.insert(anyList())).thenThrow(new DuplicateKeyException("library"));
+
+        assertThrows(DuplicateKeyException.class, () -> cartService.checkout());
+
+        verify(gameRepository, times(1)).releaseKeys(List.of(games.get(0).getId(), games.get(1).getId()));
+        verify(cartRepository, never()).deleteById_CustomerId(anyString());
     }
 
     @Test
@@ -178,14 +199,17 @@ class CartServiceTest {
         CartEntity cartEntry = buildCartEntry(game, customer);
 
         when(gameService.getGame(game.getId())).thenReturn(game);
-        when(cartRepository.getGamesByCustomer(customer)).thenReturn(games);
-        when(libraryRepository.getGamesByCustomer(customer)).thenReturn(games);
-        when(cartRepository.save(cartEntry)).thenReturn(cartEntry);
+        when(gameService.isInStock(game.getId())).thenReturn(true);
+        mockContents(cartRepository, customer, games);
+        mockContents(libraryRepository, customer, games);
+        when(cartRepository.insert(cartEntry)).thenReturn(cartEntry);
 
         CartEntity response = cartService.addToCart(game.getId());
         assertNotNull(response);
         assertEquals(response, cartEntry);
-        verify(cartRepository, times(1)).save(cartEntry);
+        verify(cartRepository, times(1)).insert(cartEntry);
+        verify(cartRepository, never()).getGamesByCustomer(customer);
+        verify(libraryRepository, never()).getGamesByCustomer(customer);
     }
 
     @Test
@@ -196,11 +220,11 @@ class CartServiceTest {
         GameEntity game = games.get(0);
         String gameId = game.getId();
         games.remove(game);
-        game.setKeys(0);
 
         when(gameService.getGame(gameId)).thenReturn(game);
-        when(cartRepository.getGamesByCustomer(customer)).thenReturn(games);
-        when(libraryRepository.getGamesByCustomer(customer)).thenReturn(games);
+        when(gameService.isInStock(gameId)).thenReturn(false);
+        mockContents(cartRepository, customer, games);
+        mockContents(libraryRepository, customer, games);
 
         ValidationException exception = assertThrows(
                 ValidationException.class,
@@ -235,7 +259,7 @@ class CartServiceTest {
         String gameId = game.getId();
 
         when(gameService.getGame(gameId)).thenReturn(game);
-        when(cartRepository.getGamesByCustomer(customer)).thenReturn(games);
+        mockContents(cartRepository, customer, games);
 
         ValidationException exception = assertThrows(
                 ValidationException.class,
@@ -259,8 +283,8 @@ class CartServiceTest {
         gamesInLibrary.removeAll(gamesInCart);
 
         when(gameService.getGame(gameId)).thenReturn(game);
-        when(cartRepository.getGamesByCustomer(customer)).thenReturn(gamesInCart);
-        when(libraryRepository.getGamesByCustomer(customer)).thenReturn(gamesInLibrary);
+        mockContents(cartRepository, customer, gamesInCart);
+        mockContents(libraryRepository, customer, gamesInLibrary);
 
         ValidationException exception = assertThrows(
                 ValidationException.class,
@@ -306,5 +330,169 @@ class CartServiceTest {
 
         cartService.removeAllFromCart();
         verify(cartRepository, times(1)).deleteById_CustomerId(customerId);
+        verify(reservationService, never()).releaseAll(anyString());
+    }
+
+    @Test
+    void testAddToCart_Reservations_Held() {
+        UserEntity customer = mockCustomerAuth();
+        GameEntity game = buildGame();
+        CartEntity cartEntry = buildCartEntry(game, customer);
+
+        when(reservationService.isEnabled()).thenReturn(true);
+        when(reservationService.hold(game.getId(), customer.getId())).thenReturn(true);
+        when(gameService.getGame(game.getId())).thenReturn(game);
+        mockContents(cartRepository, customer, List.of());
+        mockContents(libraryRepository, customer, List.of());
+        when(cartRepository.insert(cartEntry)).thenReturn(cartEntry);
+
+        assertEquals(cartEntry, cartService.addToCart(game.getId()));
+        verify(gameService, never()).isInStock(anyString());
+    }
+
+    @Test
+    void testAddToCart_Reservations_NotEnoughKeys() {
+        UserEntity customer = mockCustomerAuth();
+        GameEntity game = buildGame();
+
+        when(reservationService.isEnabled()).thenReturn(true);
+        when(reservationService.hold(game.getId(), customer.getId())).thenReturn(false);
+        when(gameService.getGame(game.getId())).thenReturn(game);
+        mockContents(cartRepository, customer, List.of());
+        mockContents(libraryRepository, customer, List.of());
+
+        ValidationException exception = assertThrows(
+                ValidationException.class,
+                () -> cartService.addToCart(game.getId())
+        );
+        assertEquals(String.format("%s is not in stock!", game.getTitle()), exception.getMessage());
+        verify(cartRepository, never()).insert(any(CartEntity.class));
+    }
+
+    @Test
+    void testAddToCart_Reservations_AddedMeanwhile() {
+        UserEntity customer = mockCustomerAuth();
+        GameEntity game = buildGame();
+        CartEntity cartEntry = buildCartEntry(game, customer);
+
+        when(reservationService.isEnabled()).thenReturn(true);
+        when(reservationService.hold(game.getId(), customer.getId())).thenReturn(true);
+        when(gameService.getGame(game.getId())).thenReturn(game);
+        mockContents(cartRepository, customer, List.of());
+        mockContents(libraryRepository, customer, List.of());
+        when(cartRepository.insert(cartEntry)).thenThrow(new DuplicateKeyException("E11000 duplicate key"));
+
+        ValidationException exception = assertThrows(
+                ValidationException.class,
+                () -> cartService.addToCart(game.getId())
+        );
+        assertEquals(String.format("%s already in cart", game.getTitle()), exception.getMessage());
+        verify(gameRepository, times(1)).releaseKeys(List.of(game.getId()));
+        verify(reservationService, never()).release(anyString(), anyString());
+        verify(cartRepository, never()).save(any(CartEntity.class));
+    }
+
+    @Test
+    void testAddToCart_AddedMeanwhile() {
+        UserEntity customer = mockCustomerAuth();
+        GameEntity game = buildGame();
+        CartEntity cartEntry = buildCartEntry(game, customer);
+
+        when(gameService.getGame(game.getId())).thenReturn(game);
+        when(gameService.isInStock(game.getId())).thenReturn(true);
+        mockContents(cartRepository, customer, List.of());
+        mockContents(libraryRepository, customer, List.of());
+        when(cartRepository.insert(cartEntry)).thenThrow(new DuplicateKeyException("E11000 duplicate key"));
+
+        ValidationException exception = assertThrows(
+                ValidationException.class,
+                () -> cartService.addToCart(game.getId())
+        );
+        assertEquals(String.format("%s already in cart", game.getTitle()), exception.getMessage());
+        verify(gameRepository, never()).releaseKeys(any());
+    }
+
+    @Test
+    void testCheckout_Reservations_ConsumesHolds() {
+        UserEntity customer = mockCustomerAuth();
+        List<GameEntity> games = buildGames(2);
+
+        when(reservationService.isEnabled()).thenReturn(true);
+        when(reservationService.consume(games.get(0).getId(), customer.getId())).thenReturn(true);
+        when(reservationService.consume(games.get(1).getId(), customer.getId())).thenReturn(false);
+        when(cartRepository.getGamesByCustomer(customer)).thenReturn(games);
+        when(gameRepository.reserveKey(games.get(1).getId())).thenReturn(true);
+
+        cartService.checkout();
+
+        verify(gameRepository, never()).reserveKey(games.get(0).getId());
+        verify(gameRepository, times(1)).reserveKey(games.get(1).getId());
+        verify(libraryRepository, times(1)).insert(anyList());
+        verify(cartRepository, times(1)).deleteById_CustomerId(customer.getId());
+    }
+
+    @Test
+    void testAddAllToCart_PerItemResults() {
+        UserEntity customer = mockCustomerAuth();
+        List<GameEntity> games = buildGames(4);
+        games.get(3).setKeys(0);
+        List<String> gameIds = List.of("1", "2", "3", "4");
+
+        when(gameService.getGames(gameIds)).thenReturn(gamesById(games));
+        when(cartRepository.getGameIdsByCustomer(customer, gameIds)).thenReturn(List.of("2"));
+        when(libraryRepository.getGameIdsByCustomer(customer, gameIds)).thenReturn(List.of("3"));
+        when(cartRepository.insertUnordered(anyList())).thenReturn(Set.of());
+
+        List<BatchResult> results = cartService.addAllToCart(gameIds);
+
+        assertEquals(List.of(true, false, false, false), results.stream().map(BatchResult::getAdded).toList());
+        assertEquals("Game 2 already in cart", results.get(1).getError());
+        assertEquals("Game 3 already in library", results.get(2).getError());
+        assertEquals("Game 4 is not in stock!", results.get(3).getError());
+        verify(cartRepository, times(1)).insertUnordered(List.of(buildCartEntry(games.get(0), customer)));
+        verify(gameService, never()).getGame(anyString());
+        verify(gameService, never()).isInStock(anyString());
+    }
+
+    @Test
+    void testAddAllToCart_Reservations_AddedMeanwhile() {
+        UserEntity customer = mockCustomerAuth();
+        List<GameEntity> games = buildGames(3);
+        List<String> gameIds = List.of("1", "2", "3");
+
+        when(reservationService.isEnabled()).thenReturn(true);
+        when(gameService.getGames(gameIds)).thenReturn(gamesById(games));
+        when(reservationService.hold(anyString(), eq(customer.getId()))).thenReturn(true);
+        when(reservationService.hold("3", customer.getId())).thenReturn(false);
+        when(cartRepository.insertUnordered(anyList())).thenReturn(Set.of(1));
+
+        List<BatchResult> results = cartService.addAllToCart(gameIds);
+
+        assertEquals(List.of(true, false, false), results.stream().map(BatchResult::getAdded).toList());
+        assertEquals("Game 2 already in cart", results.get(1).getError());
+        assertEquals("Game 3 is not in stock!", results.get(2).getError());
+        verify(gameRepository, times(1)).releaseKeys(List.of("2"));
+        verify(reservationService, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    void testRemoveFromCart_Reservations_ReleasesHold() {
+        UserEntity customer = mockCustomerAuth();
+        GameEntity game = buildGame();
+        when(reservationService.isEnabled()).thenReturn(true);
+        when(gameService.getGame(game.getId())).thenReturn(game);
+
+        cartService.removeFromCart(game.getId());
+        verify(reservationService, times(1)).release(game.getId(), customer.getId());
+    }
+
+    @Test
+    void testRemoveAllFromCart_Reservations_ReleasesHolds() {
+        UserEntity customer = mockCustomerAuth();
+        when(reservationService.isEnabled()).thenReturn(true);
+
+        cartService.removeAllFromCart();
+        verify(cartRepository, times(1)).deleteById_CustomerId(customer.getId());
+        verify(reservationService, times(1)).releaseAll(customer.getId());
     }
 }
@@ -7,8 +7,11 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
+import ro.unibuc.hello.data.repository.GameRepository;
+import ro.unibuc.hello.data.repository.LibraryRepository;
 import ro.unibuc.hello.data.repository.UserRepository;
 import ro.unibuc.hello.dto.Customer;
+import ro.unibuc.hello.dto.GamePage;
 import ro.unibuc.hello.exception.NotFoundException;
 import ro.unibuc.hello.exception.ValidationException;
 import ro.unibuc.hello.security.AuthenticationUtils;
@@ -16,6 +19,8 @@ import ro.unibuc.hello.security.AuthenticationUtils;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static ro.unibuc.hello.dto.GamePage.MAX_PAGE_SIZE;
 import static org.mockito.Mockito.*;
 import static ro.unibuc.hello.utils.AuthenticationTestUtils.*;
 import static ro.unibuc.hello.utils.GameTestUtils.buildGames;
@@ -25,6 +30,12 @@ public class CustomerServiceTest {
     @Mock
     protected UserRepository userRepository;
 
+    @Mock
+    private LibraryRepository libraryRepository;
+
+    @Mock
+    private GameRepository gameRepository;
+
     @InjectMocks
     private CustomerService customerService = new CustomerService();
 
@@ -32,6 +43,7 @@ public class CustomerServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         resetMockedAccessToken();
+        when(gameRepository.loadKeys(anyList())).thenAnswer(returnsFirstArg());
     }
 
     @Test
@@ -73,34 +85,50 @@ public class CustomerServiceTest {
     @Test
     void testCustomerGetAllGames_ValidId() {
         UserEntity mockCustomer = mockCustomerAuth();
-        mockCustomer.setGames(buildGames(2));
-        when(userRepository.findByIdAndRole(mockCustomer.getId(), mockCustomer.getRole())).thenReturn(mockCustomer);
+        List<GameEntity> mockGames = buildGames(2);
+        when(userRepository.existsByIdAndRole(mockCustomer.getId(), mockCustomer.getRole())).thenReturn(true);
+        when(libraryRepository.getGamesByCustomerId(mockCustomer.getId(), "", 2)).thenReturn(mockGames);
 
-        List<GameEntity> games = customerService.getGames(mockCustomer.getId());
+        GamePage page = customerService.getGames(mockCustomer.getId(), "", 2);
 
-        assertNotNull(games);
-        assertEquals(mockCustomer.getGames().size(), games.size());
-        assertEquals(mockCustomer.getGames(), games);
+        assertNotNull(page);
+        assertEquals(mockGames, page.getItems());
+        assertEquals(mockGames.get(1).getId(), page.getNextCursor());
+        verify(userRepository, never()).findByIdAndRole(any(), any());
+    }
+
+    @Test
+    void testCustomerGetAllGames_InvalidLimit() {
+        UserEntity mockCustomer = mockCustomerAuth();
+        when(userRepository.existsByIdAndRole(mockCustomer.getId(), mockCustomer.getRole())).thenReturn(true);
+
+        ValidationException exception = assertThrows(
+                ValidationException.class,
+                () -> customerService.getGames(mockCustomer.getId(), "", MAX_PAGE_SIZE + 1)
+        );
+        assertEquals(String.format("The page size must be between 1 and %d!", MAX_PAGE_SIZE), exception.getMessage());
+        verify(libraryRepository, never()).getGamesByCustomerId(any(), any(), anyInt());
     }
 
     @Test
     void testCustomerGetAllGames_InvalidId() {
         final String id = "id-invalid";
 
-        NotFoundException exception = assertThrows(NotFoundException.class, () -> customerService.getGames(id));
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> customerService.getGames(id, "", 50));
         assertEquals("No customer found at id " + id, exception.getMessage());
     }
 
     @Test
     void testCustomerGetMyGames_Authenticated() {
         UserEntity mockCustomer = mockCustomerAuth();
-        mockCustomer.setGames(buildGames(2));
+        List<GameEntity> mockGames = buildGames(2);
+        when(libraryRepository.getGamesByCustomerId(mockCustomer.getId(), "Game", 50)).thenReturn(mockGames);
 
-        List<GameEntity> games = customerService.getGames();
+        GamePage page = customerService.getGames("Game", 50);
 
-        assertNotNull(games);
-        assertEquals(mockCustomer.getGames().size(), games.size());
-        assertEquals(mockCustomer.getGames(), games);
+        assertNotNull(page);
+        assertEquals(mockGames, page.getItems());
+        assertNull(page.getNextCursor());
     }
 
     @Test
@@ -5,17 +5,19 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
 import ro.unibuc.hello.data.repository.GameRepository;
-import ro.unibuc.hello.data.repository.UserRepository;
 import ro.unibuc.hello.dto.Game;
 import ro.unibuc.hello.exception.UnauthorizedAccessException;
 import ro.unibuc.hello.exception.ValidationException;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Mockito.*;
 import static ro.unibuc.hello.data.entity.GameEntity.Type;
 import static ro.unibuc.hello.utils.AuthenticationTestUtils.mockDeveloperAuth;
@@ -25,13 +27,12 @@ import static ro.unibuc.hello.utils.DLCTestUtils.buildDLCForGame;
 
 class DLCServiceTest {
 
-    @Mock
-    @SuppressWarnings("unused")
-    protected UserRepository userRepository;
-
     @Mock
     protected GameRepository gameRepository;
 
+    @Spy
+    private GameCatalogCache gameCatalogCache = new GameCatalogCache(100, Duration.ofMinutes(1));
+
     @InjectMocks
     private GameService gameService = new GameService();
 
@@ -42,6 +43,7 @@ class DLCServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         resetMockedAccessToken();
+        when(gameRepository.loadKeys(anyList())).thenAnswer(returnsFirstArg());
     }
 
     @Test
@@ -55,13 +57,10 @@ class DLCServiceTest {
     @Test
     void testCreateDLC_Valid() {
         UserEntity developer = mockDeveloperAuth();
-        int initialDeveloperSize = developer.getGames().size();
         GameEntity baseGameEntity = buildBaseGame(developer);
-        int initialBaseGameSize = baseGameEntity.getDlcs().size();
         GameEntity entity = buildDLCForGame(baseGameEntity);
         entity.setId(null);
         when(gameRepository.findById(baseGameEntity.getId())).thenReturn(Optional.of(baseGameEntity));
-        when( gameRepository.save(baseGameEntity)).thenReturn(baseGameEntity);
         when(gameRepository.save(entity)).thenReturn(entity);
 
         Game dlcInput = Game.builder().title(entity.getTitle()).build();
@@ -70,13 +69,11 @@ class DLCServiceTest {
         assertNotNull(dlc);
         assertEquals(entity, dlc);
         assertEquals(developer, dlc.getDeveloper());
-        assertEquals(developer.getGames().size(), initialDeveloperSize + 1);
-        assert(baseGameEntity.getDlcs().contains(dlc));
-        assertEquals(baseGameEntity.getDlcs().size(), initialBaseGameSize + 1);
-        assert(developer.getGames().contains(dlc));
 
         verify(gameRepository, times(1)).findById(baseGameEntity.getId());
-        verify(gameRepository, times(2)).save(any());
+        verify(gameRepository, times(1)).save(any());
+        verify(gameRepository, times(1)).addDlc(baseGameEntity.getId(), dlc);
+        verify(gameCatalogCache, times(1)).invalidate(baseGameEntity.getId());
     }
 
     @Test
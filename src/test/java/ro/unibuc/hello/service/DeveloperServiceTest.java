@@ -7,8 +7,10 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
+import ro.unibuc.hello.data.repository.GameRepository;
 import ro.unibuc.hello.data.repository.UserRepository;
 import ro.unibuc.hello.dto.Developer;
+import ro.unibuc.hello.dto.GamePage;
 import ro.unibuc.hello.exception.NotFoundException;
 import ro.unibuc.hello.exception.ValidationException;
 import ro.unibuc.hello.security.AuthenticationUtils;
@@ -16,7 +18,9 @@ import ro.unibuc.hello.security.AuthenticationUtils;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static ro.unibuc.hello.dto.GamePage.MAX_PAGE_SIZE;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Mockito.*;
 import static ro.unibuc.hello.utils.AuthenticationTestUtils.*;
 import static ro.unibuc.hello.utils.GameTestUtils.buildGames;
@@ -26,6 +30,9 @@ public class DeveloperServiceTest {
     @Mock
     protected UserRepository userRepository;
 
+    @Mock
+    private GameRepository gameRepository;
+
     @InjectMocks
     private DeveloperService developerService = new DeveloperService();
 
@@ -33,6 +40,7 @@ public class DeveloperServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         resetMockedAccessToken();
+        when(gameRepository.loadKeys(anyList())).thenAnswer(returnsFirstArg());
     }
 
     @Test
@@ -74,34 +82,50 @@ public class DeveloperServiceTest {
     @Test
     void testDeveloperGetAllGames_ValidId() {
         UserEntity mockDeveloper = mockDeveloperAuth();
-        mockDeveloper.setGames(buildGames(2));
-        when(userRepository.findByIdAndRole(mockDeveloper.getId(), mockDeveloper.getRole())).thenReturn(mockDeveloper);
+        List<GameEntity> mockGames = buildGames(2);
+        when(userRepository.existsByIdAndRole(mockDeveloper.getId(), mockDeveloper.getRole())).thenReturn(true);
+        when(gameRepository.findSummariesByDeveloperId(mockDeveloper.getId(), "", 2)).thenReturn(mockGames);
 
-        List<GameEntity> games = developerService.getGames(mockDeveloper.getId());
+        GamePage page = developerService.getGames(mockDeveloper.getId(), "", 2);
+
+        assertNotNull(page);
+        assertEquals(mockGames, page.getItems());
+        assertEquals(mockGames.get(1).getTitle(), page.getNextCursor());
+        verify(userRepository, never()).findByIdAndRole(any(), any());
+    }
 
-        assertNotNull(games);
-        assertEquals(mockDeveloper.getGames().size(), games.size());
-        assertEquals(mockDeveloper.getGames(), games);
+    @Test
+    void testDeveloperGetAllGames_InvalidLimit() {
+        UserEntity mockDeveloper = mockDeveloperAuth();
+        when(userRepository.existsByIdAndRole(mockDeveloper.getId(), mockDeveloper.getRole())).thenReturn(true);
+
+        ValidationException exception = assertThrows(
+                ValidationException.class,
+                () -> developerService.getGames(mockDeveloper.getId(), "", MAX_PAGE_SIZE + 1)
+        );
+        assertEquals(String.format("The page size must be between 1 and %d!", MAX_PAGE_SIZE), exception.getMessage());
+        verify(gameRepository, never()).findSummariesByDeveloperId(any(), any(), anyInt());
     }
 
     @Test
     void testDeveloperGetAllGames_InvalidId() {
         final String id = "id-invalid";
 
-        NotFoundException exception = assertThrows(NotFoundException.class, () -> developerService.getGames(id));
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> developerService.getGames(id, "", 50));
         assertEquals("No developer found at id " + id, exception.getMessage());
     }
 
     @Test
     void testDeveloperGetMyGames_Authenticated() {
         UserEntity mockDeveloper = mockDeveloperAuth();
-        mockDeveloper.setGames(buildGames(2));
+        List<GameEntity> mockGames = buildGames(2);
+        when(gameRepository.findSummariesByDeveloperId(mockDeveloper.getId(), "Game", 50)).thenReturn(mockGames);
 
-        List<GameEntity> games = developerService.getGames();
+        GamePage page = developerService.getGames("Game", 50);
 
-        assertNotNull(games);
-        assertEquals(mockDeveloper.getGames().size(), games.size());
-        assertEquals(mockDeveloper.getGames(), games);
+        assertNotNull(page);
+        assertEquals(mockGames, page.getItems());
+        assertNull(page.getNextCursor());
     }
 
     @Test
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
 import ro.unibuc.hello.data.repository.*;
@@ -13,11 +14,13 @@ import ro.unibuc.hello.exception.NotFoundException;
 import ro.unibuc.hello.exception.UnauthorizedAccessException;
 import ro.unibuc.hello.exception.ValidationException;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Mockito.*;
 import static ro.unibuc.hello.data.entity.GameEntity.Type;
 import static ro.unibuc.hello.data.entity.UserEntity.Role;
@@ -30,9 +33,6 @@ class GameServiceTest {
     @Mock
     protected GameRepository gameRepository;
 
-    @Mock
-    protected UserRepository userRepository;
-
     @Mock
     @SuppressWarnings("unused")
     protected LibraryRepository libraryRepository;
@@ -45,6 +45,13 @@ class GameServiceTest {
     @SuppressWarnings("unused")
     protected WishlistRepository wishlistRepository;
 
+    @Mock
+    @SuppressWarnings("unused")
+    protected ReservationRepository reservationRepository;
+
+    @Spy
+    private GameCatalogCache gameCatalogCache = new GameCatalogCache(100, Duration.ofMinutes(1));
+
     @InjectMocks
     private GameService gameService = new GameService();
 
@@ -57,6 +64,7 @@ class GameServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         resetMockedAccessToken();
+        when(gameRepository.loadKeys(anyList())).thenAnswer(returnsFirstArg());
     }
 
     @Test
@@ -80,6 +88,61 @@ class GameServiceTest {
         verify(gameRepository, times(1)).findById(entity.getId());
     }
 
+    @Test
+    void testGetGame_Cached() {
+        GameEntity entity = buildGame();
+        when(gameRepository.findById(entity.getId())).thenReturn(Optional.of(entity));
+
+        gameService.getGame(entity.getId());
+        GameEntity game = gameService.getGame(entity.getId());
+
+        assertEquals(entity, game);
+        assertEquals(1, gameCatalogCache.getGames().stats().hitCount());
+        verify(gameRepository, times(1)).findById(entity.getId());
+    }
+
+    @Test
+    void testGetGame_InvalidatedWhileLoading() {
+        GameEntity entity = buildGame();
+        GameEntity updatedEntity = buildGame();
+        updatedEntity.setTitle("updated-title");
+        when(gameRepository.findById(entity.getId()))
+                .thenAnswer(invocation -> {
+                    gameCatalogCache.invalidate(entity.getId());
+                    return Optional.of(entity);
+                })
+                .thenReturn(Optional.of(updatedEntity));
+
+        assertEquals(entity, gameService.getGame(entity.getId()));
+        assertEquals(updatedEntity, gameService.getGame(entity.getId()));
+        assertEquals(updatedEntity, gameService.getGame(entity.getId()));
+
+        verify(gameRepository, times(2)).findById(entity.getId());
+    }
+
+    @Test
+    void testGetGame_NonExistingGameNotCached() {
+        String gameId = "invalid-id";
+        GameEntity entity = buildGame();
+        when(gameRepository.findById(gameId))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(entity));
+
+        assertThrows(NotFoundException.class, () -> gameService.getGame(gameId));
+        assertEquals(entity, gameService.getGame(gameId));
+
+        verify(gameRepository, times(2)).findById(gameId);
+    }
+
+    @Test
+    void testIsInStock() {
+        GameEntity entity = buildGame();
+        when(gameRepository.hasKeys(entity.getId())).thenReturn(true);
+
+        assertTrue(gameService.isInStock(entity.getId()));
+        assertFalse(gameService.isInStock("invalid-id"));
+    }
+
     @Test
     void testGetGame_NonExistingGame() {
         String gameId = "invalid-id";
@@ -187,7 +250,6 @@ class GameServiceTest {
     @Test
     void testCreateGame_ValidBody() {
         UserEntity developer = mockDeveloperAuth();
-        int initialSize = developer.getGames().size();
         GameEntity entity = buildGame(developer);
         when(gameRepository.save(any(GameEntity.class))).thenReturn(entity);
 
@@ -197,8 +259,6 @@ class GameServiceTest {
         assertNotNull(game);
         assertEquals(entity, game);
         assertEquals(developer, game.getDeveloper());
-        assertEquals(developer.getGames().size(), initialSize + 1);
-        assert(developer.getGames().contains(game));
 
         verify(gameRepository, times(1)).save(
                 argThat(g -> g.getTitle().equals(entity.getTitle()))
@@ -227,7 +287,7 @@ class GameServiceTest {
         GameEntity entity = buildGame(developer);
         when(gameRepository.findById(entity.getId())).thenReturn(Optional.of(entity));
         entity.setDiscountPercentage(discountPercentage);
-        when(gameRepository.save(any(GameEntity.class))).thenReturn(entity);
+        when(gameRepository.updateDetails(any(GameEntity.class))).thenReturn(entity);
 
         Game gameInput = Game.builder().discountPercentage(discountPercentage).build();
         GameEntity game = gameService.updateGame(entity.getId(), gameInput);
@@ -237,9 +297,28 @@ class GameServiceTest {
         assertEquals(developer, game.getDeveloper());
 
         verify(gameRepository, times(1)).findById(entity.getId());
-        verify(gameRepository, times(1)).save(
-                argThat(g -> g.getTitle().equals(entity.getTitle()))
+        verify(gameRepository, times(1)).updateDetails(
+                argThat(g -> g.getTitle().equals(entity.getTitle()) && g.getDiscountPercentage().equals(discountPercentage))
         );
+        verify(gameRepository, never()).save(any());
+        verify(gameCatalogCache, times(1)).invalidate(entity.getId());
+    }
+
+    @Test
+    void testUpdateGame_InvalidatesCachedGame() {
+        UserEntity developer = mockDeveloperAuth();
+        GameEntity cached = buildGame(developer);
+        GameEntity updated = buildGame(developer);
+        updated.setDiscountPercentage(discountPercentage);
+        when(gameRepository.findById(cached.getId()))
+                .thenReturn(Optional.of(cached))
+                .thenReturn(Optional.of(updated));
+        when(gameRepository.updateDetails(any(GameEntity.class))).thenReturn(updated);
+
+        assertSame(cached, gameService.getGame(cached.getId()));
+        gameService.updateGame(cached.getId(), Game.builder().discountPercentage(discountPercentage).build());
+
+        assertEquals(discountPercentage, gameService.getGame(cached.getId()).getDiscountPercentage());
     }
 
     @Test
@@ -256,7 +335,7 @@ class GameServiceTest {
         assertEquals(String.format("Title %s already exists!", entity.getTitle()), exception.getMessage());
 
         verify(gameRepository, times(1)).findById(entity.getId());
-        verify(gameRepository, times(0)).save(any());
+        verify(gameRepository, never()).updateDetails(any());
     }
 
     @Test
@@ -272,7 +351,7 @@ class GameServiceTest {
         assertEquals("Price cannot be negative!", exception.getMessage());
 
         verify(gameRepository, times(1)).findById(entity.getId());
-        verify(gameRepository, times(0)).save(any());
+        verify(gameRepository, never()).updateDetails(any());
     }
 
     @Test
@@ -295,7 +374,7 @@ class GameServiceTest {
         assertNull(exception.getMessage());
 
         verify(gameRepository, times(1)).findById(entity.getId());
-        verify(gameRepository, times(0)).save(any());
+        verify(gameRepository, never()).updateDetails(any());
     }
 
     @Test
@@ -311,27 +390,25 @@ class GameServiceTest {
         assertEquals(String.format(notFoundFormat, entity.getId()), exception.getMessage());
 
         verify(gameRepository, times(1)).findById(entity.getId());
-        verify(gameRepository, times(0)).save(any());
+        verify(gameRepository, never()).updateDetails(any());
     }
 
     @Test
     void testAddKeys_ExistingEntityValidBody() {
         UserEntity developer = mockDeveloperAuth();
         GameEntity entity = buildGame(developer);
-        when(gameRepository.findById(entity.getId())).thenReturn(Optional.of(entity));
-        entity.setKeys(entity.getKeys() + keysToAdd);
-        when(gameRepository.save(any(GameEntity.class))).thenReturn(entity);
+        GameEntity updatedEntity = entity.withKeys(entity.getKeys() + keysToAdd);
+        when(gameRepository.findById(entity.getId())).thenReturn(Optional.of(entity)).thenReturn(Optional.of(updatedEntity));
 
         GameEntity game = gameService.addKeys(entity.getId(), keysToAdd);
 
         assertNotNull(game);
-        assertEquals(entity, game);
+        assertEquals(updatedEntity, game);
         assertEquals(developer, game.getDeveloper());
 
-        verify(gameRepository, times(1)).findById(entity.getId());
-        verify(gameRepository, times(1)).save(
-                argThat(g -> g.getTitle().equals(entity.getTitle()))
-        );
+        verify(gameRepository, times(2)).findById(entity.getId());
+        verify(gameRepository, times(1)).addKeys(entity.getId(), keysToAdd);
+        verify(gameRepository, times(0)).save(any());
     }
 
     @Test
@@ -347,7 +424,7 @@ class GameServiceTest {
         assertEquals("Number of keys cannot be negative!", exception.getMessage());
 
         verify(gameRepository, times(1)).findById(entity.getId());
-        verify(gameRepository, times(0)).save(any());
+        verify(gameRepository, times(0)).addKeys(anyString(), anyInt());
     }
 
     @Test
@@ -371,19 +448,17 @@ class GameServiceTest {
         UserEntity developer = mockDeveloperAuth();
         GameEntity entity = buildGame(developer);
         when(gameRepository.findById(entity.getId())).thenReturn(Optional.of(entity));
-        entity.setKeys(0);
-        when(gameRepository.save(any(GameEntity.class))).thenReturn(entity);
 
         GameEntity game = gameService.markOutOfStock(entity.getId());
 
         assertNotNull(game);
-        assertEquals(entity, game);
+        assertEquals(0, game.getKeys());
+        assertEquals(entity.getTitle(), game.getTitle());
         assertEquals(developer, game.getDeveloper());
 
         verify(gameRepository, times(1)).findById(entity.getId());
-        verify(gameRepository, times(1)).save(
-                argThat(g -> g.getTitle().equals(entity.getTitle()))
-        );
+        verify(gameRepository, times(1)).clearKeys(entity.getId());
+        verify(gameRepository, times(0)).save(any());
     }
 
     @Test
@@ -405,26 +480,22 @@ class GameServiceTest {
     @Test
     void testDeleteGame_ExistingEntity() {
         UserEntity developer = mockDeveloperAuth();
-        int initialSize = developer.getGames().size();
         GameEntity entity = buildGame(developer);
-        when(userRepository.findByIdAndRole(developer.getId(), Role.DEVELOPER)).thenReturn(developer);
         when(gameRepository.findById(entity.getId())).thenReturn(Optional.of(entity));
         when(gameRepository.save(any(GameEntity.class))).thenReturn(entity);
 
         Game gameInput = Game.builder().title(entity.getTitle()).build();
         GameEntity game = gameService.createGame(gameInput);
-        assertEquals(initialSize + 1, developer.getGames().size());
-        assertTrue(developer.getGames().contains(game));
+        assertEquals(entity, game);
 
         gameService.deleteGame(entity.getId());
-        assertEquals(initialSize, developer.getGames().size());
 
-        verify(userRepository, times(1)).findByIdAndRole(developer.getId(), Role.DEVELOPER);
         verify(gameRepository, times(1)).findById(entity.getId());
         verify(gameRepository, times(1)).save(
                 argThat(g -> g.getTitle().equals(entity.getTitle()))
         );
         verify(gameRepository, times(1)).deleteAll(new ArrayList<>());
+        verify(gameRepository, times(1)).deleteKeys(entity.getId());
         verify(gameRepository, times(1)).delete(entity);
     }
 
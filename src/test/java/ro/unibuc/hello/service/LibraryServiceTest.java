@@ -7,12 +7,15 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
+import ro.unibuc.hello.data.repository.GameRepository;
 import ro.unibuc.hello.data.repository.LibraryRepository;
 import ro.unibuc.hello.exception.NotFoundException;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
 import static ro.unibuc.hello.utils.AuthenticationTestUtils.mockCustomerAuth;
 import static ro.unibuc.hello.utils.AuthenticationTestUtils.resetMockedAccessToken;
@@ -29,39 +32,53 @@ public class LibraryServiceTest {
     @Mock
     protected CustomerService customerService;
 
+    @Mock
+    protected GameRepository gameRepository;
+
     private static final String notFoundFormat = "No customer found at id %s!";
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         resetMockedAccessToken();
+        when(gameRepository.loadKeys(anyList())).thenAnswer(returnsFirstArg());
     }
 
     @Test
     void testGetLibrary_Valid() {
         UserEntity customer = mockCustomerAuth();
         List<GameEntity> games = buildGames(3);
-        customer.getGames().addAll(games);
-        when(libraryService.getLibraryByCustomerId(customer.getId())).thenReturn(customer.getGames());
+        when(libraryService.getLibraryByCustomerId(customer.getId())).thenReturn(games);
 
         List<GameEntity> response = libraryService.getLibrary();
         assertNotNull(response);
-        assertEquals(customer.getGames().size(), response.size());
-        assertEquals(customer.getGames(), response);
+        assertEquals(games.size(), response.size());
+        assertEquals(games, response);
     }
 
     @Test
     void testGetLibraryById_Valid() {
         UserEntity customer = mockCustomerAuth();
         List<GameEntity> games = buildGames(3);
-        customer.getGames().addAll(games);
         when(customerService.getCustomer(customer.getId())).thenReturn(customer);
-        when(libraryRepository.getGamesByCustomer(customer)).thenReturn(customer.getGames());
+        when(libraryRepository.getGamesByCustomer(customer)).thenReturn(games);
 
         List<GameEntity> response = libraryService.getLibraryByCustomerId(customer.getId());
         assertNotNull(response);
-        assertEquals(customer.getGames().size(), response.size());
-        assertEquals(customer.getGames(), response);
+        assertEquals(games.size(), response.size());
+        assertEquals(games, response);
+    }
+
+    @Test
+    void testGetLibraryById_ShardedKeys() {
+        UserEntity customer = mockCustomerAuth();
+        List<GameEntity> games = buildGames(2);
+        List<GameEntity> loadedGames = games.stream().map(game -> game.withKeys(game.getKeys() + 25)).toList();
+        when(customerService.getCustomer(customer.getId())).thenReturn(customer);
+        when(libraryRepository.getGamesByCustomer(customer)).thenReturn(games);
+        when(gameRepository.loadKeys(games)).thenReturn(loadedGames);
+
+        assertEquals(loadedGames, libraryService.getLibraryByCustomerId(customer.getId()));
     }
 
     @Test
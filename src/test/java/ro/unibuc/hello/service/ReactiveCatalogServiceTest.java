@@ -0,0 +1,176 @@
+package ro.unibuc.hello.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import ro.unibuc.hello.data.entity.GameEntity;
+import ro.unibuc.hello.data.entity.LibraryEntity;
+import ro.unibuc.hello.data.entity.UserEntity;
+import ro.unibuc.hello.data.repository.ReactiveGameRepository;
+import ro.unibuc.hello.data.repository.ReactiveLibraryRepository;
+import ro.unibuc.hello.exception.NotFoundException;
+import ro.unibuc.hello.exception.ValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.*;
+import static ro.unibuc.hello.data.entity.GameEntity.Type;
+import static ro.unibuc.hello.dto.GamePage.MAX_PAGE_SIZE;
+import static ro.unibuc.hello.utils.AuthenticationTestUtils.mockCustomerAuth;
+import static ro.unibuc.hello.utils.AuthenticationTestUtils.resetMockedAccessToken;
+import static ro.unibuc.hello.utils.DatabaseUtils.CompositeKey;
+import static ro.unibuc.hello.utils.GameTestUtils.*;
+
+class ReactiveCatalogServiceTest {
+
+    @Mock
+    private ReactiveGameRepository gameRepository;
+
+    @Mock
+    private ReactiveLibraryRepository libraryRepository;
+
+    @InjectMocks
+    private ReactiveCatalogService catalogService;
+
+    private static final int limit = 10;
+
+    private static final String invalidId = "invalid-id";
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        resetMockedAccessToken();
+        when(gameRepository.loadKeys(any())).thenAnswer(returnsFirstArg());
+    }
+
+    @Test
+    void testGetAllGames() {
+        List<GameEntity> games = buildGames(3);
+        when(gameRepository.findByType(Type.GAME)).thenReturn(Flux.fromIterable(games));
+
+        StepVerifier
+                .create(catalogService.getAllGames(Type.GAME))
+                .expectNextSequence(games)
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetGameById_Valid() {
+        GameEntity game = buildGame();
+        when(gameRepository.findSummaryById(game.getId())).thenReturn(Mono.just(game));
+
+        StepVerifier
+                .create(catalogService.getGameById(game.getId(), Type.GAME))
+                .expectNext(game)
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetGameById_InvalidId() {
+        when(gameRepository.findSummaryById(invalidId)).thenReturn(Mono.empty());
+
+        StepVerifier
+                .create(catalogService.getGameById(invalidId, Type.GAME))
+                .expectErrorSatisfies(exception -> {
+                    assertInstanceOf(NotFoundException.class, exception);
+                    assertEquals(String.format("No game found at id %s!", invalidId), exception.getMessage());
+                })
+                .verify();
+    }
+
+    @Test
+    void testGetGameById_WrongType() {
+        GameEntity game = buildGame();
+        when(gameRepository.findSummaryById(game.getId())).thenReturn(Mono.just(game));
+
+        StepVerifier
+                .create(catalogService.getGameById(game.getId(), Type.DLC))
+                .expectErrorSatisfies(exception -> {
+                    assertInstanceOf(NotFoundException.class, exception);
+                    assertEquals(String.format("%s is not a dlc", game.getTitle()), exception.getMessage());
+                })
+                .verify();
+    }
+
+    @Test
+    void testGetGameDLCs() {
+        GameEntity game = buildGame();
+        List<GameEntity> dlcs = buildDLCsForGame(2, game);
+        List<String> dlcIds = List.of("dlc-1", "dlc-2");
+        when(gameRepository.findSummaryById(game.getId())).thenReturn(Mono.just(game));
+        when(gameRepository.findDlcIds(game.getId())).thenReturn(Flux.fromIterable(dlcIds));
+        when(gameRepository.findSummariesByIdIn(dlcIds)).thenReturn(Flux.fromIterable(dlcs));
+
+        StepVerifier
+                .create(catalogService.getGameDLCs(game.getId()))
+                .expectNextSequence(dlcs)
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetGameDLCs_InvalidId() {
+        when(gameRepository.findSummaryById(invalidId)).thenReturn(Mono.empty());
+        when(gameRepository.findDlcIds(invalidId)).thenReturn(Flux.empty());
+
+        StepVerifier
+                .create(catalogService.getGameDLCs(invalidId))
+                .expectError(NotFoundException.class)
+                .verify();
+        verify(gameRepository, never()).findSummariesByIdIn(any());
+    }
+
+    @Test
+    void testGetStore_AllGames() {
+        List<GameEntity> games = buildGames(3);
+        when(gameRepository.findByTitleAfter("", List.of(), Limit.of(limit))).thenReturn(Flux.fromIterable(games));
+
+        StepVerifier
+                .create(catalogService.getStore(false, "", limit))
+                .expectNextSequence(games)
+                .verifyComplete();
+        verify(libraryRepository, never()).findById_CustomerId(any());
+    }
+
+    @Test
+    void testGetStore_HideOwned() {
+        UserEntity customer = mockCustomerAuth();
+        List<GameEntity> games = buildGames(3);
+        List<String> ownedGameIds = List.of(games.get(0).getId());
+        List<GameEntity> unownedGames = new ArrayList<>(games);
+        unownedGames.remove(0);
+        LibraryEntity library = LibraryEntity
+                .builder()
+                .id(new CompositeKey(games.get(0).getId(), customer.getId()))
+                .build();
+
+        when(libraryRepository.findById_CustomerId(customer.getId())).thenReturn(Flux.just(library));
+        when(gameRepository.findByTitleAfter("", ownedGameIds, Limit.of(limit))).thenReturn(Flux.fromIterable(unownedGames));
+
+        StepVerifier
+                .create(catalogService.getStore(true, "", limit))
+                .expectNextSequence(unownedGames)
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetStore_InvalidLimit() {
+        String invalidLimitFormat = "The page size must be between 1 and %d!";
+
+        ValidationException exception = assertThrows(
+                ValidationException.class,
+                () -> catalogService.getStore(false, "", MAX_PAGE_SIZE + 1)
+        );
+        assertEquals(String.format(invalidLimitFormat, MAX_PAGE_SIZE), exception.getMessage());
+        verify(gameRepository, never()).findByTitleAfter(any(), any(), any());
+    }
+
+}
@@ -0,0 +1,117 @@
+package ro.unibuc.hello.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import ro.unibuc.hello.data.entity.ReservationEntity;
+import ro.unibuc.hello.data.repository.GameRepository;
+import ro.unibuc.hello.data.repository.ReservationRepository;
+import ro.unibuc.hello.utils.TransactionRunner;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static ro.unibuc.hello.utils.DatabaseUtils.CompositeKey;
+
+class ReservationServiceTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private TransactionRunner transactionRunner;
+
+    private ReservationService reservationService;
+
+    private static final String gameId = "game";
+
+    private static final String customerId = "customer";
+
+    private static final Duration ttl = Duration.ofMinutes(15);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(transactionRunner).run(any());
+        reservationService = new ReservationService(gameRepository, reservationRepository, transactionRunner, true, ttl, 10);
+    }
+
+    @Test
+    void testHold_InStock() {
+        when(gameRepository.reserveKey(gameId)).thenReturn(true);
+        long before = System.currentTimeMillis();
+
+        assertTrue(reservationService.hold(gameId, customerId));
+        verify(reservationRepository, times(1)).save(argThat(reservation ->
+                reservation.getId().equals(new CompositeKey(gameId, customerId))
+                        && reservation.getExpiresAt().getTime() >= before + ttl.toMillis()
+        ));
+    }
+
+    @Test
+    void testHold_OutOfStock() {
+        when(gameRepository.reserveKey(gameId)).thenReturn(false);
+
+        assertFalse(reservationService.hold(gameId, customerId));
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    void testHold_SaveFails_ReleasesKey() {
+        when(gameRepository.reserveKey(gameId)).thenReturn(true);
+        when(reservationRepository.save(any())).thenThrow(new IllegalStateException("save failed"));
+
+        assertThrows(IllegalStateException.class, () -> reservationService.hold(gameId, customerId));
+        verify(gameRepository, times(1)).releaseKeys(List.of(gameId));
+    }
+
+    @Test
+    void testRelease_Held() {
+        when(reservationRepository.deleteById_GameIdAndId_CustomerId(gameId, customerId)).thenReturn(1L);
+
+        reservationService.release(gameId, customerId);
+        verify(gameRepository, times(1)).releaseKeys(List.of(gameId));
+    }
+
+    @Test
+    void testRelease_AlreadyGone() {
+        when(reservationRepository.deleteById_GameIdAndId_CustomerId(gameId, customerId)).thenReturn(0L);
+
+        reservationService.release(gameId, customerId);
+        verify(gameRepository, never()).releaseKeys(any());
+    }
+
+    @Test
+    void testReleaseExpired() {
+        ReservationEntity expired = new ReservationEntity(new CompositeKey(gameId, customerId), new Date(0));
+        ReservationEntity consumed = new ReservationEntity(new CompositeKey("other-game", customerId), new Date(0));
+        when(reservationRepository.findByExpiresAtBefore(any(Date.class), eq(Limit.of(10)))).thenReturn(List.of(expired, consumed));
+        when(reservationRepository.deleteById_GameIdAndId_CustomerIdAndExpiresAtBefore(eq(gameId), eq(customerId), any(Date.class))).thenReturn(1L);
+        when(reservationRepository.deleteById_GameIdAndId_CustomerIdAndExpiresAtBefore(eq("other-game"), eq(customerId), any(Date.class))).thenReturn(0L);
+
+        reservationService.releaseExpired();
+
+        verify(gameRepository, times(1)).releaseKeys(List.of(gameId));
+        verify(gameRepository, never()).releaseKeys(List.of("other-game"));
+    }
+
+    @Test
+    void testReleaseExpired_Disabled() {
+        reservationService = new ReservationService(gameRepository, reservationRepository, transactionRunner, false, ttl, 10);
+
+        reservationService.releaseExpired();
+        verifyNoInteractions(reservationRepository, gameRepository);
+    }
+
+}
@@ -5,20 +5,24 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
 import ro.unibuc.hello.data.repository.GameRepository;
 import ro.unibuc.hello.data.repository.LibraryRepository;
 import ro.unibuc.hello.data.repository.UserRepository;
+import ro.unibuc.hello.dto.GamePage;
 import ro.unibuc.hello.exception.UnauthorizedAccessException;
+import ro.unibuc.hello.exception.ValidationException;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.*;
+import static ro.unibuc.hello.dto.GamePage.MAX_PAGE_SIZE;
 import static ro.unibuc.hello.security.AuthenticationUtils.getUser;
 import static ro.unibuc.hello.utils.AuthenticationTestUtils.mockCustomerAuth;
 import static ro.unibuc.hello.utils.AuthenticationTestUtils.resetMockedAccessToken;
@@ -40,22 +44,40 @@ public class StoreServiceTest {
 
     private static Boolean hideOwned = false;
 
+    private static final int limit = 10;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         resetMockedAccessToken();
+        when(gameRepository.loadKeys(anyList())).thenAnswer(returnsFirstArg());
     }
 
     @Test
     void testGetStore_AllGames() throws Exception {
         hideOwned = false;
         List<GameEntity> games = buildGames(3);
-        when(gameRepository.findAll()).thenReturn(games);
+        when(gameRepository.findByTitleAfter("", List.of(), Limit.of(limit))).thenReturn(games);
+
+        GamePage response = storeService.getStore(hideOwned, "", limit);
+        assertNotNull(response);
+        assertEquals(games.size(), response.getItems().size());
+        assertEquals(games, response.getItems());
+        assertNull(response.getNextCursor());
+        verify(libraryRepository, never()).getGameIdsByCustomer(any());
+    }
 
-        List<GameEntity> response = storeService.getStore(hideOwned);
+    @Test
+    void testGetStore_NextPage() throws Exception {
+        hideOwned = false;
+        List<GameEntity> games = buildGames(limit);
+        String cursor = "Game 0";
+        when(gameRepository.findByTitleAfter(cursor, List.of(), Limit.of(limit))).thenReturn(games);
+
+        GamePage response = storeService.getStore(hideOwned, cursor, limit);
         assertNotNull(response);
-        assertEquals(games.size(), response.size());
-        assertEquals(games, response);
+        assertEquals(games, response.getItems());
+        assertEquals(games.get(limit - 1).getTitle(), response.getNextCursor());
     }
 
     @Test
@@ -63,33 +85,44 @@ public class StoreServiceTest {
         hideOwned = true;
         UserEntity customer = mockCustomerAuth();
         List<GameEntity> games = buildGames(3);
-        List<GameEntity> owned_games = List.of(games.get(0));
-        List<GameEntity> unowned_games = new ArrayList<>(games);
-        unowned_games.removeAll(owned_games);
+        List<String> ownedGameIds = List.of(games.get(0).getId());
+        List<GameEntity> unownedGames = new ArrayList<>(games);
+        unownedGames.remove(0);
 
-        when(gameRepository.findAll()).thenReturn(games);
         when(userRepository.findById(customer.getId())).thenReturn(Optional.of(customer));
-        when(libraryRepository.getGamesByCustomer(getUser())).thenReturn(owned_games);
+        when(libraryRepository.getGameIdsByCustomer(getUser())).thenReturn(ownedGameIds);
+        when(gameRepository.findByTitleAfter("", ownedGameIds, Limit.of(limit))).thenReturn(unownedGames);
 
-        List<GameEntity> response = storeService.getStore(hideOwned);
+        GamePage response = storeService.getStore(hideOwned, "", limit);
         assertNotNull(response);
-        assertEquals(unowned_games.size(), response.size());
-        assertEquals(unowned_games, response);
+        assertEquals(unownedGames.size(), response.getItems().size());
+        assertEquals(unownedGames, response.getItems());
+        assertNull(response.getNextCursor());
     }
 
     @Test
     void testGetStore_HideOwned_NoAuth() throws Exception {
         hideOwned = true;
-        List<GameEntity> games = buildGames(3);
-
-        when(gameRepository.findAll()).thenReturn(games);
         when(userRepository.findById(any())).thenThrow(new UnauthorizedAccessException());
 
         UnauthorizedAccessException exception = assertThrows(
                 UnauthorizedAccessException.class,
-                () -> storeService.getStore(hideOwned)
+                () -> storeService.getStore(hideOwned, "", limit)
         );
         assertNotNull(exception);
         assertEquals(UnauthorizedAccessException.class, exception.getClass());
     }
+
+    @Test
+    void testGetStore_InvalidLimit() throws Exception {
+        String invalidLimitFormat = "The page size must be between 1 and %d!";
+
+        ValidationException exception = assertThrows(
+                ValidationException.class,
+                () -> storeService.getStore(false, "", MAX_PAGE_SIZE + 1)
+        );
+        assertNotNull(exception);
+        assertEquals(String.format(invalidLimitFormat, MAX_PAGE_SIZE), exception.getMessage());
+        verify(gameRepository, never()).findByTitleAfter(any(), any(), any());
+    }
 }
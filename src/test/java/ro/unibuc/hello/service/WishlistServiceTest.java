@@ -2,24 +2,29 @@ package ro.unibuc.hello.service;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
 import ro.unibuc.hello.data.entity.CartEntity;
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
 import ro.unibuc.hello.data.entity.WishlistEntity;
 import ro.unibuc.hello.data.repository.CartRepository;
+import ro.unibuc.hello.data.repository.GameRepository;
 import ro.unibuc.hello.data.repository.LibraryRepository;
 import ro.unibuc.hello.data.repository.WishlistRepository;
+import ro.unibuc.hello.dto.BatchResult;
 import ro.unibuc.hello.exception.NotFoundException;
 import ro.unibuc.hello.exception.ValidationException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Mockito.*;
 import static ro.unibuc.hello.data.entity.CartEntity.buildCartEntry;
 import static ro.unibuc.hello.data.entity.WishlistEntity.buildWishlistEntry;
@@ -27,6 +32,8 @@ import static ro.unibuc.hello.utils.AuthenticationTestUtils.mockCustomerAuth;
 import static ro.unibuc.hello.utils.AuthenticationTestUtils.resetMockedAccessToken;
 import static ro.unibuc.hello.utils.GameTestUtils.buildGame;
 import static ro.unibuc.hello.utils.GameTestUtils.buildGames;
+import static ro.unibuc.hello.utils.GameTestUtils.gamesById;
+import static ro.unibuc.hello.utils.GameTestUtils.mockContents;
 
 public class WishlistServiceTest {
 
@@ -39,18 +46,42 @@ public class WishlistServiceTest {
     @Mock
     protected WishlistRepository wishlistRepository;
 
+    @Mock
+    protected GameRepository gameRepository;
+
     @Mock
     protected GameService gameService;
 
+    @Mock
+    protected ReservationService reservationService;
+
     @InjectMocks
     private WishlistService wishlistService;
 
+    // A real CartService on the same mocks, so moving a game goes through the same hold and stock check
+    private final CartService cartService = new CartService();
+
     private static final String noGameFoundFormat = "No game found at id %s!";
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         resetMockedAccessToken();
+        when(gameRepository.loadKeys(anyList())).thenAnswer(returnsFirstArg());
+
+        ReflectionTestUtils.setField(cartService, "cartRepository", cartRepository);
+        ReflectionTestUtils.setField(cartService, "gameRepository", gameRepository);
+        ReflectionTestUtils.setField(cartService, "gameService", gameService);
+        ReflectionTestUtils.setField(cartService, "reservationService", reservationService);
+        ReflectionTestUtils.setField(wishlistService, "cartService", cartService);
+    }
+
+    private GameEntity mockMovableGame(UserEntity customer) {
+        GameEntity game = buildGame();
+        when(gameService.getGame(game.getId())).thenReturn(game);
+        mockContents(wishlistRepository, customer, List.of(game));
+        mockContents(cartRepository, customer, List.of());
+        return game;
     }
 
     @Test
@@ -76,8 +107,8 @@ public class WishlistServiceTest {
         WishlistEntity wishlistEntry = buildWishlistEntry(game, customer);
 
         when(gameService.getGame(game.getId())).thenReturn(game);
-        when(wishlistRepository.getGamesByCustomer(customer)).thenReturn(games);
-        when(libraryRepository.getGamesByCustomer(customer)).thenReturn(games);
+        mockContents(wishlistRepository, customer, games);
+        mockContents(libraryRepository, customer, games);
         when(wishlistRepository.save(wishlistEntry)).thenReturn(wishlistEntry);
 
         WishlistEntity response = wishlistService.addToWishlist(game.getId());
@@ -86,6 +117,56 @@ public class WishlistServiceTest {
         verify(wishlistRepository, times(1)).save(wishlistEntry);
     }
 
+    @Test
+    void testAddAllToWishlist_PerItemResults() {
+        UserEntity customer = mockCustomerAuth();
+        List<GameEntity> games = buildGames(4);
+        List<String> gameIds = List.of("1", "2", "3", "4", "1", "missing");
+
+        when(gameService.getGames(gameIds)).thenReturn(gamesById(games));
+        when(wishlistRepository.getGameIdsByCustomer(customer, gameIds)).thenReturn(List.of("2"));
+        when(libraryRepository.getGameIdsByCustomer(customer, gameIds)).thenReturn(List.of("3"));
+        when(wishlistRepository.insertUnordered(anyList())).thenReturn(Set.of());
+
+        List<BatchResult> results = wishlistService.addAllToWishlist(gameIds);
+
+        assertEquals(List.of("1", "2", "3", "4", "missing"), results.stream().map(BatchResult::getGameId).toList());
+        assertEquals(List.of(true, false, false, true, false), results.stream().map(BatchResult::getAdded).toList());
+        assertEquals("Game 2 already in wishlist", results.get(1).getError());
+        assertEquals("Game 3 already in library", results.get(2).getError());
+        assertEquals(String.format(noGameFoundFormat, "missing"), results.get(4).getError());
+        verify(wishlistRepository, times(1)).insertUnordered(List.of(
+                buildWishlistEntry(games.get(0), customer),
+                buildWishlistEntry(games.get(3), customer)
+        ));
+        verify(wishlistRepository, never()).save(any());
+    }
+
+    @Test
+    void testAddAllToWishlist_AddedMeanwhile() {
+        UserEntity customer = mockCustomerAuth();
+        List<GameEntity> games = buildGames(2);
+        List<String> gameIds = List.of("1", "2");
+
+        when(gameService.getGames(gameIds)).thenReturn(gamesById(games));
+        when(wishlistRepository.insertUnordered(anyList())).thenReturn(Set.of(1));
+
+        List<BatchResult> results = wishlistService.addAllToWishlist(gameIds);
+
+        assertTrue(results.get(0).getAdded());
+        assertFalse(results.get(1).getAdded());
+        assertEquals("Game 2 already in wishlist", results.get(1).getError());
+    }
+
+    @Test
+    void testAddAllToWishlist_InvalidBatch() {
+        mockCustomerAuth();
+
+        assertThrows(ValidationException.class, () -> wishlistService.addAllToWishlist(List.of()));
+        assertThrows(ValidationException.class, () -> wishlistService.addAllToWishlist(List.of(" ")));
+        verify(gameService, never()).getGames(any());
+    }
+
     @Test
     void testAddToWishlist_InvalidGameId() {
         mockCustomerAuth();
@@ -110,7 +191,7 @@ public class WishlistServiceTest {
         String gameId = game.getId();
 
         when(gameService.getGame(gameId)).thenReturn(game);
-        when(wishlistRepository.getGamesByCustomer(customer)).thenReturn(games);
+        mockContents(wishlistRepository, customer, games);
 
         ValidationException exception = assertThrows(
                 ValidationException.class,
@@ -134,8 +215,8 @@ public class WishlistServiceTest {
         gamesInLibrary.removeAll(gamesInWishlist);
 
         when(gameService.getGame(gameId)).thenReturn(game);
-        when(wishlistRepository.getGamesByCustomer(customer)).thenReturn(gamesInWishlist);
-        when(libraryRepository.getGamesByCustomer(customer)).thenReturn(gamesInLibrary);
+        mockContents(wishlistRepository, customer, gamesInWishlist);
+        mockContents(libraryRepository, customer, gamesInLibrary);
 
         ValidationException exception = assertThrows(
                 ValidationException.class,
@@ -157,12 +238,76 @@ public class WishlistServiceTest {
         gamesInWishlist.add(games.getLast());
 
         when(gameService.getGame(game.getId())).thenReturn(game);
-        when(wishlistRepository.getGamesByCustomer(customer)).thenReturn(gamesInWishlist);
-        when(cartRepository.getGamesByCustomer(customer)).thenReturn(games);
-        when(cartRepository.save(cartEntry)).thenReturn(cartEntry);
+        mockContents(wishlistRepository, customer, gamesInWishlist);
+        mockContents(cartRepository, customer, games);
+        when(gameService.isInStock(game.getId())).thenReturn(true);
+        when(cartRepository.insert(cartEntry)).thenReturn(cartEntry);
+
+        wishlistService.moveToCart(game.getId());
+        verify(cartRepository, times(1)).insert(cartEntry);
+        verify(cartRepository, never()).save(any(CartEntity.class));
+        verify(reservationService, never()).hold(anyString(), anyString());
+    }
+
+    @Test
+    void testMoveToCart_NotInStock() {
+        UserEntity customer = mockCustomerAuth();
+        GameEntity game = mockMovableGame(customer);
+        when(gameService.isInStock(game.getId())).thenReturn(false);
+
+        ValidationException exception = assertThrows(
+                ValidationException.class,
+                () -> wishlistService.moveToCart(game.getId())
+        );
+        assertEquals(String.format("%s is not in stock!", game.getTitle()), exception.getMessage());
+        verify(cartRepository, never()).insert(any(CartEntity.class));
+    }
+
+    @Test
+    void testMoveToCart_Reservations_Held() {
+        UserEntity customer = mockCustomerAuth();
+        GameEntity game = mockMovableGame(customer);
+        CartEntity cartEntry = buildCartEntry(game, customer);
+        when(reservationService.isEnabled()).thenReturn(true);
+        when(reservationService.hold(game.getId(), customer.getId())).thenReturn(true);
+        when(cartRepository.insert(cartEntry)).thenReturn(cartEntry);
 
         wishlistService.moveToCart(game.getId());
-        verify(cartRepository, times(1)).save(cartEntry);
+
+        verify(reservationService, times(1)).hold(game.getId(), customer.getId());
+        verify(cartRepository, times(1)).insert(cartEntry);
+        verify(gameService, never()).isInStock(anyString());
+    }
+
+    @Test
+    void testMoveToCart_Reservations_NotEnoughKeys() {
+        UserEntity customer = mockCustomerAuth();
+        GameEntity game = mockMovableGame(customer);
+        when(reservationService.isEnabled()).thenReturn(true);
+        when(reservationService.hold(game.getId(), customer.getId())).thenReturn(false);
+
+        ValidationException exception = assertThrows(
+                ValidationException.class,
+                () -> wishlistService.moveToCart(game.getId())
+        );
+        assertEquals(String.format("%s is not in stock!", game.getTitle()), exception.getMessage());
+        verify(cartRepository, never()).insert(any(CartEntity.class));
+    }
+
+    @Test
+    void testMoveToCart_Reservations_AddedMeanwhile() {
+        UserEntity customer = mockCustomerAuth();
+        GameEntity game = mockMovableGame(customer);
+        when(reservationService.isEnabled()).thenReturn(true);
+        when(reservationService.hold(game.getId(), customer.getId())).thenReturn(true);
+        when(cartRepository.insert(buildCartEntry(game, customer))).thenThrow(new DuplicateKeyException("E11000 duplicate key"));
+
+        ValidationException exception = assertThrows(
+                ValidationException.class,
+                () -> wishlistService.moveToCart(game.getId())
+        );
+        assertEquals(String.format("%s already in cart", game.getTitle()), exception.getMessage());
+        verify(gameRepository, times(1)).releaseKeys(List.of(game.getId()));
     }
 
     @Test
@@ -188,12 +333,10 @@ public class WishlistServiceTest {
         GameEntity game = games.get(0);
         games.remove(game);
         String gameId = game.getId();
-        CartEntity cartEntry = buildCartEntry(game, customer);
 
         when(gameService.getGame(gameId)).thenReturn(game);
-        when(wishlistRepository.getGamesByCustomer(customer)).thenReturn(games);
-        when(cartRepository.getGamesByCustomer(customer)).thenReturn(games);
-        when(cartRepository.save(cartEntry)).thenReturn(cartEntry);
+        mockContents(wishlistRepository, customer, games);
+        mockContents(cartRepository, customer, games);
 
         ValidationException exception = assertThrows(
                 ValidationException.class,
@@ -209,16 +352,14 @@ public class WishlistServiceTest {
         List<GameEntity> games = buildGames(4);
         GameEntity game = games.get(0);
         String gameId = game.getId();
-        CartEntity cartEntry = buildCartEntry(game, customer);
 
         List<GameEntity> gamesInWishlist = new ArrayList<>(List.of(game));
         gamesInWishlist.add(games.getLast());
         List<GameEntity> gamesInCart = new ArrayList<>(games);
 
         when(gameService.getGame(gameId)).thenReturn(game);
-        when(wishlistRepository.getGamesByCustomer(customer)).thenReturn(gamesInWishlist);
-        when(cartRepository.getGamesByCustomer(customer)).thenReturn(gamesInCart);
-        when(cartRepository.save(cartEntry)).thenReturn(cartEntry);
+        mockContents(wishlistRepository, customer, gamesInWishlist);
+        mockContents(cartRepository, customer, gamesInCart);
 
         ValidationException exception = assertThrows(
                 ValidationException.class,
@@ -232,51 +373,49 @@ public class WishlistServiceTest {
     @Test
     void testMoveAllToCart_Valid() {
         UserEntity customer = mockCustomerAuth();
-        List<GameEntity> games = buildGames(3);
-        when(wishlistRepository.getGamesByCustomer(customer)).thenReturn(games);
-
-        ArgumentCaptor<CartEntity> cartCaptor = ArgumentCaptor.forClass(CartEntity.class);
-        when(cartRepository.save(any(CartEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        List<String> gameIds = List.of("1", "2", "3");
+        when(wishlistRepository.findGameIdsToMoveToCart(customer.getId())).thenReturn(gameIds);
+        when(cartRepository.insertUnordered(anyList())).thenReturn(Set.of());
 
         wishlistService.moveAllToCart();
 
-        // capture the arguments and then get the values
-        verify(cartRepository, times(games.size())).save(cartCaptor.capture());
-        List<CartEntity> capturedCartEntities = cartCaptor.getAllValues();
-        assertEquals(games.size(), capturedCartEntities.size());
-
-        for (int i = 0; i< games.size(); i++) {
-            GameEntity game = games.get(i);
-            assertNotNull(capturedCartEntities.get(i));
-            assertEquals(game.getId(), capturedCartEntities.get(i).getGame().getId());
-        };
+        verify(cartRepository, times(1)).insertUnordered(List.of(
+                buildCartEntry("1", customer),
+                buildCartEntry("2", customer),
+                buildCartEntry("3", customer)
+        ));
+        verify(cartRepository, never()).save(any());
+        verify(wishlistRepository, never()).getGamesByCustomer(any());
+        verify(gameRepository, never()).releaseKeys(any());
     }
 
     @Test
-    void testMoveAllToCart_NotEnoughKeys() {
+    void testMoveAllToCart_NothingToMove() {
         UserEntity customer = mockCustomerAuth();
-        List<GameEntity> games = buildGames(4);
-        games.get(0).setKeys(0);
-        List<GameEntity> gamesOutOfStock = new ArrayList<>(List.of(games.get(0)));
-        List<GameEntity> gamesInStock = new ArrayList<>(games);
-        gamesInStock.removeAll(gamesOutOfStock);
-        when(wishlistRepository.getGamesByCustomer(customer)).thenReturn(games);
-
-        ArgumentCaptor<CartEntity> cartCaptor = ArgumentCaptor.forClass(CartEntity.class);
-        when(cartRepository.save(any(CartEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(wishlistRepository.findGameIdsToMoveToCart(customer.getId())).thenReturn(List.of());
+        when(cartRepository.insertUnordered(anyList())).thenReturn(Set.of());
 
         wishlistService.moveAllToCart();
 
-        // capture the arguments and then get the values
-        verify(cartRepository, times(gamesInStock.size())).save(cartCaptor.capture());
-        List<CartEntity> capturedCartEntities = cartCaptor.getAllValues();
-        assertEquals(gamesInStock.size(), capturedCartEntities.size());
+        verify(cartRepository, times(1)).insertUnordered(List.of());
+    }
+
+    @Test
+    void testMoveAllToCart_Reservations() {
+        UserEntity customer = mockCustomerAuth();
+        when(reservationService.isEnabled()).thenReturn(true);
+        when(wishlistRepository.findGameIdsToMoveToCart(customer.getId())).thenReturn(List.of("1", "2", "3"));
+        when(reservationService.hold(anyString(), eq(customer.getId()))).thenReturn(true);
+        when(reservationService.hold("2", customer.getId())).thenReturn(false);
+        when(cartRepository.insertUnordered(anyList())).thenReturn(Set.of(1));
+
+        wishlistService.moveAllToCart();
 
-        for (int i = 0; i < gamesInStock.size(); i++) {
-            GameEntity game = gamesInStock.get(i);
-            assertNotNull(capturedCartEntities.get(i));
-            assertEquals(game.getId(), capturedCartEntities.get(i).getGame().getId());
-        };
+        verify(cartRepository, times(1)).insertUnordered(List.of(
+                buildCartEntry("1", customer),
+                buildCartEntry("3", customer)
+        ));
+        verify(gameRepository, times(1)).releaseKeys(List.of("3"));
     }
 
     @Test
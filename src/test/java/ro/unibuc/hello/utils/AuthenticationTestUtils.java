@@ -13,6 +13,7 @@ import ro.unibuc.hello.security.AuthenticationUtils;
 import ro.unibuc.hello.security.jwt.JWTAuthenticationToken;
 import ro.unibuc.hello.security.jwt.JWTService;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -30,7 +31,7 @@ public final class AuthenticationTestUtils {
 
     private static final SecurityContext securityContext = Mockito.mock(SecurityContext.class);
 
-    public static final JWTService jwtService = new JWTService("8a05a7ec81fd773513f88bb33b0ea42b436902d88fc4d9b0dec15d402dfad4c3");
+    public static final JWTService jwtService = new JWTService("8a05a7ec81fd773513f88bb33b0ea42b436902d88fc4d9b0dec15d402dfad4c3", 100, Duration.ofMinutes(5));
 
     public static <B> B buildCommonFields(B builder, Role role) {
         String username = role.toString().toLowerCase();
@@ -63,7 +64,7 @@ public final class AuthenticationTestUtils {
         AuthenticationUtils.setUserRepository(userRepository);
         SecurityContextHolder.setContext(securityContext);
 
-        UserEntity user = buildCommonFields(UserEntity.builder(), role).games(new ArrayList<>()).build();
+        UserEntity user = buildCommonFields(UserEntity.builder(), role).build();
         JWTAuthenticationToken authToken = new JWTAuthenticationToken(user.getId());
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(userRepository.findByIdAndRole(user.getId(), role)).thenReturn(user);
@@ -205,6 +206,7 @@ public final class AuthenticationTestUtils {
     }
 
     public static void resetMockedAccessToken() {
+        when(securityContext.getAuthentication()).thenReturn(null);
         when(userRepository.findById(any())).thenReturn(Optional.empty());
         when(userRepository.findByIdAndRole(any(), any())).thenReturn(null);
     }
@@ -2,6 +2,7 @@ package ro.unibuc.hello.utils;
 
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.ResultMatcher;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
@@ -31,16 +32,23 @@ public interface ControllerTestInterface<C> {
         return String.format("/%s%s", getEndpoint(), restOfEndpoint);
     }
 
+    private ResultActions perform(MockHttpServletRequestBuilder requestBuilder) throws Exception {
+        ResultActions resultActions = getMockMvc().perform(requestBuilder);
+        MvcResult result = resultActions.andReturn();
+        return result.getRequest().isAsyncStarted()
+                ? getMockMvc().perform(asyncDispatch(result))
+                : resultActions;
+    }
+
     private ResultActions performJsonRequest(MockHttpServletRequestBuilder requestBuilder, Object requestBody, String token) throws Exception {
-        return getMockMvc()
-                .perform(requestBuilder
-                        .content(new ObjectMapper().writeValueAsString(requestBody))
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .with(addToken(token)));
+        return perform(requestBuilder
+                .content(new ObjectMapper().writeValueAsString(requestBody))
+                .contentType(MediaType.APPLICATION_JSON)
+                .with(addToken(token)));
     }
 
     default ResultActions performGet(String token, String endpointTemplate, Object... args) throws Exception {
-        return getMockMvc().perform(get(formatEndpoint(endpointTemplate), args)
+        return perform(get(formatEndpoint(endpointTemplate), args)
                 .with(addToken(token)));
     }
 
@@ -73,9 +81,8 @@ public interface ControllerTestInterface<C> {
     }
 
     default ResultActions performDelete(String token, String endpointTemplate, Object... args) throws Exception {
-        return getMockMvc()
-                .perform(delete(formatEndpoint(endpointTemplate), args)
-                        .with(addToken(token)));
+        return perform(delete(formatEndpoint(endpointTemplate), args)
+                .with(addToken(token)));
     }
 
     default ResultActions performDelete(String token, String endpoint) throws Exception {
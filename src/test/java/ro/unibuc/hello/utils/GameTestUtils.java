@@ -2,9 +2,16 @@ package ro.unibuc.hello.utils;
 
 import ro.unibuc.hello.data.entity.GameEntity;
 import ro.unibuc.hello.data.entity.UserEntity;
+import ro.unibuc.hello.data.repository.GameCollectionRepository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
 
 public final class GameTestUtils {
 
@@ -17,7 +24,7 @@ public final class GameTestUtils {
                     .builder()
                     .id(String.valueOf(id))
                     .title(String.format("Game %d", id))
-                    .price(0.0)
+                    .priceCents(0L)
                     .discountPercentage(0)
                     .keys(100)
                     .type(GameEntity.Type.GAME)
@@ -45,7 +52,7 @@ public final class GameTestUtils {
                     .builder()
                     .id(String.format("%s-DLC", baseGame.getId()))
                     .title(String.format("%s DLC %d", baseGame.getTitle(), id))
-                    .price(0.0)
+                    .priceCents(0L)
                     .discountPercentage(0)
                     .keys(100)
                     .type(GameEntity.Type.DLC)
@@ -60,4 +67,15 @@ public final class GameTestUtils {
         return buildDLCsForGame(1, baseGame).getFirst();
     }
 
+    public static Map<String, GameEntity> gamesById(List<GameEntity> games) {
+        return games.stream().collect(Collectors.toMap(GameEntity::getId, game -> game));
+    }
+
+    public static void mockContents(GameCollectionRepository<?, ?> repository, UserEntity customer, List<GameEntity> games) {
+        when(repository.containsGame(eq(customer), anyString())).thenAnswer(invocation -> games
+                .stream()
+                .anyMatch(game -> game.getId().equals(invocation.getArgument(1)))
+        );
+    }
+
 }
@@ -0,0 +1,187 @@
+package ro.unibuc.hello.utils;
+
+import org.junit.jupiter.api.Test;
+import ro.unibuc.hello.data.repository.IdBlockAllocator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGeneratorTest {
+
+    private static final int THREADS = 16;
+    private static final int IDS_PER_THREAD = 5_000;
+
+    // Stands in for the counters collection shared by all replicas
+    private static class InMemoryBlockAllocator implements IdBlockAllocator {
+
+        private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+        @Override
+        public long allocate(String key, int blockSize) {
+            return counters
+                    .computeIfAbsent(key, ignored -> new AtomicLong())
+                    .getAndAdd(blockSize);
+        }
+
+        @Override
+        public void reserve(String key, long floor) {
+            counters
+                    .computeIfAbsent(key, ignored -> new AtomicLong())
+                    .accumulateAndGet(floor, Math::max);
+        }
+
+    }
+
+    private static List<String> generateConcurrently(List<IdGenerator> generators, String key) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<String>>> futures = IntStream
+                    .range(0, THREADS)
+                    .mapToObj(i -> executor.submit(() -> {
+                        IdGenerator generator = generators.get(i % generators.size());
+                        start.await();
+                        return IntStream
+                                .range(0, IDS_PER_THREAD)
+                                .mapToObj(ignored -> generator.generateId(key))
+                                .toList();
+                    }))
+                    .toList();
+            start.countDown();
+
+            return futures
+                    .stream()
+                    .flatMap(future -> {
+                        try {
+                            return future.get(30, TimeUnit.SECONDS).stream();
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                    })
+                    .toList();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGenerateId_Sequential() {
+        IdGenerator generator = new IdGenerator();
+        generator.setTemplate("games", "game");
+
+        assertEquals("game0", generator.generateId("games"));
+        assertEquals("game1", generator.generateId("games"));
+        assertEquals("game5", generator.getId("games", 5));
+
+        generator.setTemplate("games", "game");
+        assertEquals("game0", generator.generateId("games"));
+    }
+
+    @Test
+    void testGenerateId_UnknownKey() {
+        IdGenerator generator = new IdGenerator();
+
+        RuntimeException exception = assertThrows(
+                RuntimeException.class,
+                () -> generator.generateId("games")
+        );
+        assertEquals("games not found", exception.getMessage());
+    }
+
+    @Test
+    void testGenerateId_ConcurrentLocal() throws Exception {
+        IdGenerator generator = new IdGenerator();
+        generator.setTemplate("games", "game");
+
+        List<String> ids = generateConcurrently(List.of(generator), "games");
+
+        Set<String> expected = IntStream
+                .range(0, THREADS * IDS_PER_THREAD)
+                .mapToObj(i -> "game" + i)
+                .collect(Collectors.toSet());
+        assertEquals(THREADS * IDS_PER_THREAD, ids.size());
+        assertEquals(expected, Set.copyOf(ids));
+    }
+
+    @Test
+    void testGenerateId_ConcurrentReplicas() throws Exception {
+        InMemoryBlockAllocator allocator = new InMemoryBlockAllocator();
+        List<IdGenerator> replicas = IntStream
+                .range(0, 4)
+                .mapToObj(ignored -> new IdGenerator(allocator, 37))
+                .toList();
+        replicas.forEach(replica -> {
+            replica.setTemplate("games", "game");
+            replica.startAllocating("games");
+        });
+
+        List<String> ids = generateConcurrently(replicas, "games");
+
+        assertEquals(THREADS * IDS_PER_THREAD, ids.size());
+        assertEquals(ids.size(), Set.copyOf(ids).size());
+    }
+
+    @Test
+    void testGenerateId_SingleReplicaBlocksStayInOrder() {
+        IdGenerator generator = new IdGenerator(new InMemoryBlockAllocator(), 2);
+        generator.setTemplate("games", "game");
+        generator.startAllocating("games");
+
+        assertEquals(
+                List.of("game0", "game1", "game2", "game3", "game4"),
+                IntStream.range(0, 5).mapToObj(ignored -> generator.generateId("games")).toList()
+        );
+    }
+
+    @Test
+    void testGenerateId_SeededIdsComeBeforeBlocks() {
+        InMemoryBlockAllocator allocator = new InMemoryBlockAllocator();
+        IdGenerator generator = new IdGenerator(allocator, 10);
+        generator.setTemplate("games", "game");
+
+        assertEquals("game0", generator.generateId("games"));
+        assertEquals("game1", generator.generateId("games"));
+        generator.startAllocating("games");
+
+        assertEquals("game2", generator.generateId("games"));
+        assertEquals(12, allocator.counters.get("games").get());
+    }
+
+    @Test
+    void testGenerateId_RestartedReplicaDoesNotRewindCounter() {
+        InMemoryBlockAllocator allocator = new InMemoryBlockAllocator();
+        IdGenerator running = new IdGenerator(allocator, 10);
+        running.setTemplate("games", "game");
+        running.generateId("games");
+        running.startAllocating("games");
+        List<String> ids = new ArrayList<>(List.of(running.generateId("games"), running.generateId("games")));
+
+        // A second replica starts up and seeds the same ids while the first one keeps serving
+        IdGenerator restarted = new IdGenerator(allocator, 10);
+        restarted.setTemplate("games", "game");
+        assertEquals("game0", restarted.generateId("games"));
+        restarted.startAllocating("games");
+
+        IntStream.range(0, 25).forEach(i -> {
+            ids.add(running.generateId("games"));
+            ids.add(restarted.generateId("games"));
+        });
+
+        assertEquals(ids.size(), Set.copyOf(ids).size());
+        assertFalse(ids.contains("game0"));
+    }
+
+    @Test
+    void testConstructor_InvalidBlockSize() {
+        assertThrows(IllegalArgumentException.class, () -> new IdGenerator(new InMemoryBlockAllocator(), 0));
+    }
+
+}
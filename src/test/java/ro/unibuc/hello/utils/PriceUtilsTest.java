@@ -0,0 +1,47 @@
+package ro.unibuc.hello.utils;
+
+import org.junit.jupiter.api.Test;
+import ro.unibuc.hello.data.entity.GameEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ro.unibuc.hello.utils.PriceUtils.*;
+
+class PriceUtilsTest {
+
+    @Test
+    void testToCents() {
+        assertEquals(5999L, toCents(59.99));
+        assertEquals(0L, toCents(0.005));
+        assertEquals(2L, toCents(0.015));
+        assertNull(toCents(null));
+    }
+
+    @Test
+    void testToPrice() {
+        assertEquals(59.99, toPrice(5999L));
+        assertNull(toPrice(null));
+    }
+
+    @Test
+    void testDiscount() {
+        assertEquals(5999L, discount(5999L, 0));
+        assertEquals(0L, discount(5999L, 100));
+        assertEquals(4499L, discount(5999L, 25));
+        // 0.50 and 1.50 cents round to the even neighbour
+        assertEquals(0L, discount(1L, 50));
+        assertEquals(2L, discount(3L, 50));
+    }
+
+    @Test
+    void testTotalPrice_Exact() {
+        List<GameEntity> games = List.of(
+                GameEntity.builder().priceCents(10L).discountPercentage(0).build(),
+                GameEntity.builder().priceCents(20L).discountPercentage(0).build()
+        );
+
+        assertEquals(0.3, GameEntity.totalPrice(games));
+    }
+
+}
@@ -0,0 +1,113 @@
+package ro.unibuc.hello.utils;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import ro.unibuc.hello.exception.TransactionConflictException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TransactionRunnerTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    private final TransactionRunner transactionRunner = new TransactionRunner(transactionManager, mongoTemplate, 3, Duration.ZERO, Duration.ZERO);
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(mongoTemplate.executeCommand(any(Document.class))).thenReturn(new Document("setName", "rs0"));
+    }
+
+    private static RuntimeException writeConflict() {
+        MongoCommandException conflict = new MongoCommandException(
+                new BsonDocument("ok", new BsonInt32(0))
+                        .append("code", new BsonInt32(112))
+                        .append("errmsg", new BsonString("WriteConflict")),
+                new ServerAddress()
+        );
+        conflict.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+        return new UncategorizedMongoDbException(conflict.getMessage(), conflict);
+    }
+
+    @Test
+    void testRun_Commits() {
+        AtomicInteger calls = new AtomicInteger();
+
+        transactionRunner.run(calls::incrementAndGet);
+
+        assertEquals(1, calls.get());
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    void testRun_RetriesTransientErrors() {
+        AtomicInteger calls = new AtomicInteger();
+
+        transactionRunner.run(() -> {
+            if (calls.incrementAndGet() < 3) throw writeConflict();
+        });
+
+        assertEquals(3, calls.get());
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void testRun_GivesUpAfterMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+
+        TransactionConflictException exception = assertThrows(TransactionConflictException.class, () -> transactionRunner.run(() -> {
+            calls.incrementAndGet();
+            throw writeConflict();
+        }));
+        assertInstanceOf(UncategorizedMongoDbException.class, exception.getCause());
+        assertEquals("The transaction still conflicted after 3 attempts", exception.getMessage());
+        assertEquals(3, calls.get());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void testRun_DoesNotRetryOtherErrors() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(DataIntegrityViolationException.class, () -> transactionRunner.run(() -> {
+            calls.incrementAndGet();
+            throw new DataIntegrityViolationException("Duplicate key");
+        }));
+        assertEquals(1, calls.get());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    void testRun_StandaloneServer() {
+        when(mongoTemplate.executeCommand(any(Document.class))).thenReturn(new Document("isWritablePrimary", true));
+        AtomicInteger calls = new AtomicInteger();
+
+        transactionRunner.run(calls::incrementAndGet);
+        transactionRunner.run(calls::incrementAndGet);
+
+        assertEquals(2, calls.get());
+        verify(transactionManager, never()).getTransaction(any());
+        verify(mongoTemplate, times(1)).executeCommand(any(Document.class));
+    }
+
+}
@@ -0,0 +1,46 @@
+package ro.unibuc.hello.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ro.unibuc.hello.utils.ValidationUtils.*;
+
+class ValidationUtilsTest {
+
+    @Test
+    void testRules_Reused() {
+        assertSame(validPassword(), validPassword());
+        assertSame(validEmail(), validEmail());
+        assertSame(validWebsite(), validWebsite());
+        assertSame(validLength(5), validLength(5));
+        assertSame(defaultValidator(), defaultValidator());
+        assertNotSame(validLength(5), validLength(3));
+    }
+
+    @Test
+    void testValidPassword() {
+        assertNull(validPassword().validate("Password1"));
+        assertEquals("%s must contain at least one uppercase letter!", validPassword().validate("password1"));
+        assertEquals("%s must contain at least one lowercase letter!", validPassword().validate("PASSWORD1"));
+        assertEquals("%s must contain at least one digit!", validPassword().validate("Password"));
+    }
+
+    @Test
+    void testValidEmail() {
+        assertNull(validEmail().validate("customer@gmail.com"));
+        assertEquals("%s must be a valid email address!", validEmail().validate("customer.gmail.com"));
+    }
+
+    @Test
+    void testValidWebsite() {
+        assertNull(validWebsite().validate("https://studio.com"));
+        assertEquals("%s must be a valid website URL!", validWebsite().validate("studio.com"));
+    }
+
+    @Test
+    void testValidLength() {
+        assertNull(validLength(5).validate("12345"));
+        assertEquals("%s must be at least 5 characters long!", validLength(5).validate("1234"));
+    }
+
+}